@@ -0,0 +1,336 @@
+package com.roland.training.batch;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jfree.chart.ChartUtils;
+import org.jfree.chart.JFreeChart;
+
+import com.roland.training.metrics.MetricsRegistry;
+import com.roland.training.metrics.PrometheusEndpoint;
+
+/**
+ * Headless command-line runner: reads a job file, runs the jobs concurrently and writes the results.
+ * <pre>
+ * java -jar batch-runner.jar jobs.txt [--out DIR] [--threads N] [--format csv|json|both] [--charts]
+ *                                    [--metrics FILE] [--metrics-port PORT] [--metrics-host HOST]
+ * </pre>
+ * Each job writes {@code <name>.csv} and/or {@code <name>.json}; a {@code summary.csv}/{@code summary.json}
+ * lists every job's status, run time and metrics. {@code --charts} additionally renders {@code <name>-<n>.png}.
+ * Nothing touches AWT unless charts are requested, and even then rendering stays off-screen.
+ * {@code --metrics} turns on the engine counters and writes them in Prometheus text format when the batch
+ * ends; {@code --metrics-port} also serves them at {@code /metrics} while it runs, on the loopback interface
+ * unless {@code --metrics-host} names another address.
+ */
+public class BatchRunner {
+
+    private static final int CHART_WIDTH = 800;
+    private static final int CHART_HEIGHT = 500;
+
+    private final Path outputDir;
+    private final boolean writeCsv;
+    private final boolean writeJson;
+    private final boolean renderCharts;
+
+    /**
+     * Status of one job after it has run.
+     */
+    public static class Outcome {
+        private final JobSpec spec;
+        private final JobResult result;
+        private final String error;
+        private final long elapsedMillis;
+
+        Outcome(JobSpec spec, JobResult result, String error, long elapsedMillis) {
+            this.spec = spec;
+            this.result = result;
+            this.error = error;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public JobSpec getSpec() {
+            return spec;
+        }
+
+        // null if the job failed
+        public JobResult getResult() {
+            return result;
+        }
+
+        // null if the job succeeded
+        public String getError() {
+            return error;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+    }
+
+    public BatchRunner(Path outputDir, boolean writeCsv, boolean writeJson, boolean renderCharts) {
+        this.outputDir = outputDir.toAbsolutePath().normalize();
+        this.writeCsv = writeCsv;
+        this.writeJson = writeJson;
+        this.renderCharts = renderCharts;
+    }
+
+    /**
+     * Runs every job on a pool of {@code threads} workers. A failing job is reported in its outcome
+     * and does not stop the others. Outcomes are returned in job file order.
+     */
+    public List<Outcome> runAll(List<JobSpec> jobs, int threads) throws IOException, InterruptedException {
+        Files.createDirectories(outputDir);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Outcome>> futures = new ArrayList<>();
+            for (JobSpec job : jobs) {
+                futures.add(executor.submit(() -> runJob(job)));
+            }
+            List<Outcome> outcomes = new ArrayList<>();
+            for (Future<Outcome> future : futures) {
+                try {
+                    outcomes.add(future.get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Unexpected failure in batch worker", e.getCause());
+                }
+            }
+            writeSummary(outcomes);
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Outcome runJob(JobSpec spec) {
+        long start = System.nanoTime();
+        try {
+            JobResult result = JobExecutor.run(spec);
+            writeJobOutput(result);
+            return new Outcome(spec, result, null, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException | IOException e) {
+            String message = e.getMessage() != null ? e.getMessage() : e.toString();
+            return new Outcome(spec, null, message, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private void writeJobOutput(JobResult result) throws IOException {
+        String name = result.getSpec().getName();
+        if (writeCsv) {
+            try (Writer out = Files.newBufferedWriter(outputFile(name + ".csv"))) {
+                result.getTable().writeCsv(out);
+            }
+        }
+        if (writeJson) {
+            StringBuilder json = new StringBuilder();
+            json.append("{\"job\":");
+            Encoding.string(json, name);
+            json.append(",\"tool\":");
+            Encoding.string(json, result.getSpec().getTool());
+            json.append(",\"params\":");
+            Encoding.object(json, result.getSpec().getParams());
+            json.append(",\"metrics\":");
+            Encoding.object(json, result.getMetrics());
+            json.append(",\"data\":");
+            result.getTable().writeJson(json);
+            json.append("}\n");
+            Files.writeString(outputFile(name + ".json"), json);
+        }
+        if (renderCharts) {
+            List<JFreeChart> charts = result.createCharts();
+            for (int i = 0; i < charts.size(); i++) {
+                ChartUtils.saveChartAsPNG(outputFile(name + "-" + (i + 1) + ".png").toFile(),
+                        charts.get(i), CHART_WIDTH, CHART_HEIGHT);
+            }
+        }
+    }
+
+    // Job names are checked by JobFile; this also guards specs built in code
+    private Path outputFile(String fileName) {
+        Path file = outputDir.resolve(fileName).normalize();
+        if (!outputDir.equals(file.getParent())) {
+            throw new IllegalArgumentException("Output file '" + fileName + "' is outside " + outputDir);
+        }
+        return file;
+    }
+
+    private void writeSummary(List<Outcome> outcomes) throws IOException {
+        if (writeCsv) {
+            try (Writer out = Files.newBufferedWriter(outputDir.resolve("summary.csv"))) {
+                out.write("job,tool,status,elapsed_ms,metric,value\n");
+                for (Outcome outcome : outcomes) {
+                    String prefix = Encoding.csvField(outcome.spec.getName()) + "," + Encoding.csvField(outcome.spec.getTool()) + ",";
+                    if (outcome.result == null) {
+                        out.write(prefix + "error," + outcome.elapsedMillis + ",error," + Encoding.csvField(outcome.error) + "\n");
+                        continue;
+                    }
+                    for (Map.Entry<String, Object> metric : outcome.result.getMetrics().entrySet()) {
+                        out.write(prefix + "ok," + outcome.elapsedMillis + "," + Encoding.csvField(metric.getKey()) + ","
+                                + Encoding.csvField(String.valueOf(metric.getValue())) + "\n");
+                    }
+                }
+            }
+        }
+        if (writeJson) {
+            StringBuilder json = new StringBuilder("[\n");
+            for (int i = 0; i < outcomes.size(); i++) {
+                Outcome outcome = outcomes.get(i);
+                json.append("{\"job\":");
+                Encoding.string(json, outcome.spec.getName());
+                json.append(",\"tool\":");
+                Encoding.string(json, outcome.spec.getTool());
+                json.append(",\"status\":\"").append(outcome.result == null ? "error" : "ok").append('"');
+                json.append(",\"elapsedMs\":").append(outcome.elapsedMillis);
+                if (outcome.result == null) {
+                    json.append(",\"error\":");
+                    Encoding.string(json, outcome.error);
+                } else {
+                    json.append(",\"metrics\":");
+                    Encoding.object(json, outcome.result.getMetrics());
+                }
+                json.append(i + 1 < outcomes.size() ? "},\n" : "}\n");
+            }
+            json.append("]\n");
+            Files.writeString(outputDir.resolve("summary.json"), json);
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (System.getProperty("java.awt.headless") == null) {
+            System.setProperty("java.awt.headless", "true");
+        }
+        // Must be decided before any engine class, and with it MetricsRegistry, is loaded
+        boolean metrics = false;
+        for (String arg : args) {
+            metrics |= arg.equals("--metrics") || arg.equals("--metrics-port");
+        }
+        if (metrics) {
+            System.setProperty("roland.metrics", "true");
+        }
+
+        Path jobFile = null;
+        Path outputDir = Paths.get("batch-output");
+        int threads = Runtime.getRuntime().availableProcessors();
+        String format = "csv";
+        boolean charts = false;
+        Path metricsFile = null;
+        int metricsPort = -1;
+        String metricsHost = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--out":
+                    outputDir = Paths.get(requireValue(args, ++i));
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(requireValue(args, ++i));
+                    break;
+                case "--format":
+                    format = requireValue(args, ++i);
+                    break;
+                case "--charts":
+                    charts = true;
+                    break;
+                case "--metrics":
+                    metricsFile = Paths.get(requireValue(args, ++i));
+                    break;
+                case "--metrics-port":
+                    metricsPort = Integer.parseInt(requireValue(args, ++i));
+                    break;
+                case "--metrics-host":
+                    metricsHost = requireValue(args, ++i);
+                    break;
+                default:
+                    if (args[i].startsWith("--") || jobFile != null) {
+                        usage("Unexpected argument: " + args[i]);
+                    }
+                    jobFile = Paths.get(args[i]);
+            }
+        }
+        if (jobFile == null) {
+            usage("Missing job file");
+        }
+        if (!format.equals("csv") && !format.equals("json") && !format.equals("both")) {
+            usage("Unknown format: " + format);
+        }
+        if (threads < 1) {
+            usage("--threads must be at least 1");
+        }
+        if (metricsHost != null && metricsPort < 0) {
+            usage("--metrics-host needs --metrics-port");
+        }
+        InetAddress metricsAddress = InetAddress.getLoopbackAddress();
+        if (metricsHost != null) {
+            try {
+                metricsAddress = InetAddress.getByName(metricsHost);
+            } catch (UnknownHostException e) {
+                usage("Unknown metrics host: " + metricsHost);
+            }
+        }
+
+        List<JobSpec> jobs = null;
+        try {
+            jobs = JobFile.parse(jobFile);
+        } catch (IllegalArgumentException e) {
+            usage(jobFile + ": " + e.getMessage());
+        } catch (IOException e) {
+            usage("Cannot read job file " + jobFile + ": " + e);
+        }
+        BatchRunner runner = new BatchRunner(outputDir, !format.equals("json"), !format.equals("csv"), charts);
+        PrometheusEndpoint endpoint = metricsPort >= 0 ? PrometheusEndpoint.start(metricsAddress, metricsPort, MetricsRegistry.global()) : null;
+        long start = System.nanoTime();
+        List<Outcome> outcomes;
+        try {
+            outcomes = runner.runAll(jobs, threads);
+        } finally {
+            if (endpoint != null) {
+                endpoint.close();
+            }
+        }
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        if (metricsFile != null) {
+            try (Writer out = Files.newBufferedWriter(metricsFile)) {
+                MetricsRegistry.global().writePrometheus(out);
+            }
+        }
+
+        int failed = 0;
+        for (Outcome outcome : outcomes) {
+            if (outcome.getResult() == null) {
+                failed++;
+                System.err.println("FAILED " + outcome.getSpec().getName() + " (line " + outcome.getSpec().getLineNumber() + "): " + outcome.getError());
+            } else {
+                System.out.printf("ok     %s (%s, %d ms)%n", outcome.getSpec().getName(), outcome.getSpec().getTool(), outcome.getElapsedMillis());
+            }
+        }
+        System.out.printf("%d jobs, %d failed, %d ms on %d threads; results in %s%n",
+                outcomes.size(), failed, elapsed, threads, outputDir.toAbsolutePath());
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static String requireValue(String[] args, int i) {
+        if (i >= args.length) {
+            usage("Missing value for " + args[i - 1]);
+        }
+        return args[i];
+    }
+
+    private static void usage(String message) {
+        System.err.println(message);
+        System.err.println("Usage: java -jar batch-runner.jar <job-file> [--out DIR] [--threads N] [--format csv|json|both] [--charts]"
+                + " [--metrics FILE] [--metrics-port PORT] [--metrics-host HOST]");
+        System.exit(2);
+    }
+}
@@ -0,0 +1,248 @@
+package com.roland.training.batch;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.roland.training.buck.BuckConverterCharts;
+import com.roland.training.buck.BuckConverterEngine;
+import com.roland.training.buck.BuckConverterResult;
+import com.roland.training.motor.DCMotorCharts;
+import com.roland.training.motor.DCMotorEngine;
+import com.roland.training.motor.DCMotorResult;
+import com.roland.training.relay.OvercurrentRelayCharts;
+import com.roland.training.relay.OvercurrentRelayEngine;
+import com.roland.training.relay.OvercurrentRelayResult;
+import com.roland.training.relay.RelayCurve;
+import com.roland.training.solar.SolarPVCharts;
+import com.roland.training.solar.SolarPVEngine;
+import com.roland.training.solar.SolarPVResult;
+
+/**
+ * Runs a {@link JobSpec} on the matching engine. Supported tools: buck, motor, solar-pv, relay.
+ */
+public final class JobExecutor {
+
+    private JobExecutor() {
+    }
+
+    public static JobResult run(JobSpec spec) {
+        switch (spec.getTool()) {
+            case "buck":
+                return runBuck(spec);
+            case "motor":
+                return runMotor(spec);
+            case "solar-pv":
+                return runSolarPV(spec);
+            case "relay":
+                return runRelay(spec);
+            default:
+                throw new IllegalArgumentException("Job '" + spec.getName() + "': unknown tool '" + spec.getTool()
+                        + "' (expected buck, motor, solar-pv or relay)");
+        }
+    }
+
+    private static JobResult runBuck(JobSpec spec) {
+        BuckConverterEngine engine = new BuckConverterEngine();
+        if (spec.has("inputVoltage")) {
+            engine.setInputVoltage(spec.getDouble("inputVoltage"));
+        }
+        if (spec.has("inductance")) {
+            engine.setInductance(spec.getDouble("inductance"));
+        }
+        if (spec.has("capacitance")) {
+            engine.setCapacitance(spec.getDouble("capacitance"));
+        }
+        if (spec.has("loadResistance")) {
+            engine.setLoadResistance(spec.getDouble("loadResistance"));
+        }
+        if (spec.has("switchingFrequency")) {
+            engine.setSwitchingFrequency(spec.getDouble("switchingFrequency"));
+        }
+        if (spec.has("dutyCycle")) {
+            engine.setDutyCycle(spec.getDouble("dutyCycle"));
+        }
+        if (spec.has("simulationTime")) {
+            engine.setSimulationTime(spec.getDouble("simulationTime"));
+        }
+        if (spec.has("timeStep")) {
+            engine.setTimeStep(spec.getDouble("timeStep"));
+        }
+
+        BuckConverterResult result = engine.simulateBuckConverter();
+        ResultTable table = new ResultTable()
+                .addColumn("time", result.getTime())
+                .addColumn("inductorCurrent", result.getInductorCurrent())
+                .addColumn("outputVoltage", result.getOutputVoltage());
+        return new JobResult(spec, table, () -> BuckConverterCharts.createCharts(result))
+                .metric("steps", result.getTime().length)
+                .metric("averageOutputVoltage", result.getAverageOutputVoltage())
+                .metric("theoreticalOutputVoltage", result.getTheoreticalOutputVoltage());
+    }
+
+    private static JobResult runMotor(JobSpec spec) {
+        DCMotorEngine engine = new DCMotorEngine();
+        // Gains left out of the job keep the engine defaults
+        if (spec.has("kp")) {
+            engine.setKp(spec.getDouble("kp"));
+        }
+        if (spec.has("ki")) {
+            engine.setKi(spec.getDouble("ki"));
+        }
+        if (spec.has("kd")) {
+            engine.setKd(spec.getDouble("kd"));
+        }
+        if (spec.has("loadTorque")) {
+            engine.setLoadTorque(spec.getDouble("loadTorque"));
+        }
+        if (spec.has("simulationTime")) {
+            engine.setSimulationTime(spec.getDouble("simulationTime"));
+        }
+        if (spec.has("timeStep")) {
+            engine.setTimeStep(spec.getDouble("timeStep"));
+        }
+
+        DCMotorResult result = engine.simulateDCMotorControl();
+        double[] omega = result.getOmega();
+        double[] ia = result.getArmatureCurrent();
+        double peakCurrent = 0.0;
+        for (double current : ia) {
+            peakCurrent = Math.max(peakCurrent, Math.abs(current));
+        }
+        int last = omega.length - 1;
+        ResultTable table = new ResultTable()
+                .addColumn("time", result.getTime())
+                .addColumn("referenceSpeed", result.getReferenceSpeed())
+                .addColumn("omega", omega)
+                .addColumn("armatureCurrent", ia)
+                .addColumn("armatureVoltage", result.getArmatureVoltage());
+        return new JobResult(spec, table, () -> DCMotorCharts.createCharts(result))
+                .metric("steps", omega.length)
+                .metric("finalSpeed", omega[last])
+                .metric("finalReferenceSpeed", result.getReferenceSpeed()[last])
+                .metric("peakArmatureCurrent", peakCurrent);
+    }
+
+    private static JobResult runSolarPV(JobSpec spec) {
+        String file = spec.getString("file");
+        if (!new File(file).isFile()) {
+            throw new IllegalArgumentException("Job '" + spec.getName() + "': data file not found: " + file);
+        }
+        SolarPVEngine engine = new SolarPVEngine();
+        if (spec.has("panelArea")) {
+            engine.setPanelArea(spec.getDouble("panelArea"));
+        }
+
+        SolarPVResult result = engine.analyze(file);
+        double[] dcPower = result.getDcPower();
+        double[] efficiency = result.getEfficiency();
+        double peakDcPower = 0.0;
+        double efficiencySum = 0.0;
+        for (int i = 0; i < dcPower.length; i++) {
+            peakDcPower = Math.max(peakDcPower, dcPower[i]);
+            efficiencySum += efficiency[i];
+        }
+        Object[] timestamps = new Object[result.size()];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = result.getTimestamps()[i].format(SolarPVEngine.TIMESTAMP_FORMATTER);
+        }
+        ResultTable table = new ResultTable()
+                .addColumn("timestamp", timestamps)
+                .addColumn("irradiance", result.getIrradiance())
+                .addColumn("panelTemperature", result.getPanelTemperature())
+                .addColumn("voltage", result.getVoltage())
+                .addColumn("current", result.getCurrent())
+                .addColumn("loadPower", result.getLoadPower())
+                .addColumn("dcPower", dcPower)
+                .addColumn("efficiency", efficiency);
+        return new JobResult(spec, table, () -> SolarPVCharts.createCharts(result))
+                .metric("rows", result.size())
+                .metric("peakDcPower", peakDcPower)
+                .metric("meanEfficiency", dcPower.length == 0 ? Double.NaN : efficiencySum / dcPower.length);
+    }
+
+    /*
+     * relays="R1:1.5:0.1:Inverse,R2:1.2:0.2:Very Inverse"  (id:pickup pu:TMS:curve)
+     * faults="Fault_A:5.0,Fault_B:3.5"                      (id:current pu)
+     * pairs="R1/R2/Fault_A"                                 (primary/backup/fault)
+     * Without relays and faults the example study of OvercurrentRelayAnalysis is used.
+     */
+    private static JobResult runRelay(JobSpec spec) {
+        OvercurrentRelayEngine engine;
+        if (spec.has("relays") || spec.has("faults")) {
+            engine = new OvercurrentRelayEngine();
+            for (String[] relay : split(spec, "relays", 4)) {
+                // The engine would silently give an unknown curve NaN tripping times
+                if (RelayCurve.fromLabel(relay[3]) == null) {
+                    throw new IllegalArgumentException("Job '" + spec.getName() + "': unknown curve '" + relay[3]
+                            + "' for relay " + relay[0] + " (expected Inverse, Very Inverse or Extremely Inverse)");
+                }
+                engine.addRelay(relay[0], parse(spec, relay[1]), parse(spec, relay[2]), relay[3]);
+            }
+            for (String[] fault : split(spec, "faults", 2)) {
+                engine.addFaultCurrent(fault[0], parse(spec, fault[1]));
+            }
+        } else {
+            engine = OvercurrentRelayEngine.example();
+        }
+
+        OvercurrentRelayResult result = engine.calculateTrippingTimes();
+        List<Object> relayColumn = new ArrayList<>();
+        List<Object> faultColumn = new ArrayList<>();
+        List<Double> timeColumn = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Double>> relay : result.getTrippingTimes().entrySet()) {
+            for (Map.Entry<String, Double> fault : relay.getValue().entrySet()) {
+                relayColumn.add(relay.getKey());
+                faultColumn.add(fault.getKey());
+                timeColumn.add(fault.getValue());
+            }
+        }
+        double[] times = new double[timeColumn.size()];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = timeColumn.get(i);
+        }
+        ResultTable table = new ResultTable()
+                .addColumn("relay", relayColumn.toArray())
+                .addColumn("fault", faultColumn.toArray())
+                .addColumn("trippingTime", times);
+        JobResult jobResult = new JobResult(spec, table,
+                () -> Collections.singletonList(OvercurrentRelayCharts.createTCPlot(result)))
+                .metric("relays", result.getRelayIds().length)
+                .metric("faults", result.getFaultIds().size());
+        if (spec.has("pairs")) {
+            for (String[] pair : split(spec, "pairs", 3)) {
+                String key = pair[0] + "/" + pair[1] + "/" + pair[2];
+                double cti = result.getCoordinationTimeInterval(pair[0], pair[1], pair[2]);
+                jobResult.metric("cti." + key, cti);
+                jobResult.metric("acceptable." + key, !Double.isNaN(cti) && OvercurrentRelayResult.isCoordinationAcceptable(cti));
+            }
+        }
+        return jobResult;
+    }
+
+    private static List<String[]> split(JobSpec spec, String key, int fields) {
+        List<String[]> entries = new ArrayList<>();
+        if (!spec.has(key)) {
+            return entries;
+        }
+        String separator = fields == 3 ? "/" : ":";
+        for (String entry : spec.getString(key).split(",")) {
+            String[] parts = entry.trim().split(separator);
+            if (parts.length != fields) {
+                throw new IllegalArgumentException("Job '" + spec.getName() + "': malformed " + key + " entry '" + entry + "'");
+            }
+            entries.add(parts);
+        }
+        return entries;
+    }
+
+    private static double parse(JobSpec spec, String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Job '" + spec.getName() + "': not a number: " + value);
+        }
+    }
+}
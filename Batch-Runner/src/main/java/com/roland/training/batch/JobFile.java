@@ -0,0 +1,99 @@
+package com.roland.training.batch;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Parses a job file. Each non-blank line that does not start with '#' is one job:
+ * <pre>
+ * name tool key=value key="value with spaces" ...
+ * </pre>
+ * Job names become output file names, so they are limited to letters, digits, '.', '_' and '-',
+ * may not contain "..", and may not be "summary".
+ */
+public final class JobFile {
+
+    private static final Pattern VALID_NAME = Pattern.compile("[A-Za-z0-9._-]+");
+
+    private JobFile() {
+    }
+
+    public static List<JobSpec> parse(Path path) throws IOException {
+        List<JobSpec> jobs = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        try (BufferedReader br = Files.newBufferedReader(path)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = br.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                List<String> tokens = tokenize(trimmed, lineNumber);
+                if (tokens.size() < 2) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": expected '<name> <tool> [key=value ...]'");
+                }
+                String name = tokens.get(0);
+                if (!VALID_NAME.matcher(name).matches() || name.contains("..") || name.equals("summary")) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": invalid job name '" + name
+                            + "' (use letters, digits, '.', '_' and '-', no '..', not 'summary')");
+                }
+                if (!names.add(name)) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": duplicate job name '" + name + "'");
+                }
+                Map<String, String> params = new LinkedHashMap<>();
+                for (int i = 2; i < tokens.size(); i++) {
+                    String token = tokens.get(i);
+                    int eq = token.indexOf('=');
+                    if (eq <= 0) {
+                        throw new IllegalArgumentException("Line " + lineNumber + ": expected key=value, got '" + token + "'");
+                    }
+                    params.put(token.substring(0, eq), token.substring(eq + 1));
+                }
+                jobs.add(new JobSpec(name, tokens.get(1), params, lineNumber));
+            }
+        }
+        return jobs;
+    }
+
+    // Splits on whitespace; double quotes group a value that contains spaces
+    private static List<String> tokenize(String line, int lineNumber) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        boolean inToken = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (ch == '"') {
+                quoted = !quoted;
+                inToken = true;
+            } else if (Character.isWhitespace(ch) && !quoted) {
+                if (inToken) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                    inToken = false;
+                }
+            } else {
+                current.append(ch);
+                inToken = true;
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": unterminated quote");
+        }
+        if (inToken) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,47 @@
+package com.roland.training.batch;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jfree.chart.JFreeChart;
+
+/**
+ * Output of one job: scalar metrics, a data table and a deferred chart builder.
+ * The charts are only built when rendering is requested, so plain runs never load the chart classes.
+ */
+public class JobResult {
+
+    private final JobSpec spec;
+    private final Map<String, Object> metrics = new LinkedHashMap<>();
+    private final ResultTable table;
+    private final Supplier<List<JFreeChart>> charts;
+
+    public JobResult(JobSpec spec, ResultTable table, Supplier<List<JFreeChart>> charts) {
+        this.spec = spec;
+        this.table = table;
+        this.charts = charts;
+    }
+
+    public JobResult metric(String name, Object value) {
+        metrics.put(name, value);
+        return this;
+    }
+
+    public JobSpec getSpec() {
+        return spec;
+    }
+
+    public Map<String, Object> getMetrics() {
+        return metrics;
+    }
+
+    public ResultTable getTable() {
+        return table;
+    }
+
+    public List<JFreeChart> createCharts() {
+        return charts.get();
+    }
+}
@@ -0,0 +1,58 @@
+package com.roland.training.batch;
+
+import java.util.Map;
+
+/**
+ * One line of a job file: a unique name, the tool to run and its key=value parameters.
+ */
+public class JobSpec {
+
+    private final String name;
+    private final String tool;
+    private final Map<String, String> params;
+    private final int lineNumber;
+
+    public JobSpec(String name, String tool, Map<String, String> params, int lineNumber) {
+        this.name = name;
+        this.tool = tool;
+        this.params = params;
+        this.lineNumber = lineNumber;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getTool() {
+        return tool;
+    }
+
+    public Map<String, String> getParams() {
+        return params;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public boolean has(String key) {
+        return params.containsKey(key);
+    }
+
+    public String getString(String key) {
+        String value = params.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Job '" + name + "' is missing parameter '" + key + "'");
+        }
+        return value;
+    }
+
+    public double getDouble(String key) {
+        String value = getString(key);
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Job '" + name + "': parameter '" + key + "' is not a number: " + value);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.roland.training.batch;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Column-oriented table of job output. Columns are either {@code double[]} or {@code Object[]} of equal length.
+ */
+public class ResultTable {
+
+    private final List<String> headers = new ArrayList<>();
+    private final List<Object> columns = new ArrayList<>();
+    private int rowCount = -1;
+
+    public ResultTable addColumn(String header, double[] values) {
+        return add(header, values, values.length);
+    }
+
+    public ResultTable addColumn(String header, Object[] values) {
+        return add(header, values, values.length);
+    }
+
+    private ResultTable add(String header, Object column, int length) {
+        if (rowCount >= 0 && length != rowCount) {
+            throw new IllegalArgumentException("Column '" + header + "' has " + length + " rows, expected " + rowCount);
+        }
+        rowCount = length;
+        headers.add(header);
+        columns.add(column);
+        return this;
+    }
+
+    public int getRowCount() {
+        return Math.max(rowCount, 0);
+    }
+
+    public void writeCsv(Writer out) throws IOException {
+        for (int c = 0; c < headers.size(); c++) {
+            if (c > 0) {
+                out.write(',');
+            }
+            out.write(Encoding.csvField(headers.get(c)));
+        }
+        out.write('\n');
+        for (int r = 0; r < getRowCount(); r++) {
+            for (int c = 0; c < columns.size(); c++) {
+                if (c > 0) {
+                    out.write(',');
+                }
+                Object column = columns.get(c);
+                if (column instanceof double[]) {
+                    out.write(Double.toString(((double[]) column)[r]));
+                } else {
+                    out.write(Encoding.csvField(String.valueOf(((Object[]) column)[r])));
+                }
+            }
+            out.write('\n');
+        }
+    }
+
+    // {"header": [values...], ...}
+    public void writeJson(StringBuilder out) {
+        out.append('{');
+        for (int c = 0; c < headers.size(); c++) {
+            if (c > 0) {
+                out.append(',');
+            }
+            Encoding.string(out, headers.get(c));
+            out.append(":[");
+            Object column = columns.get(c);
+            for (int r = 0; r < getRowCount(); r++) {
+                if (r > 0) {
+                    out.append(',');
+                }
+                if (column instanceof double[]) {
+                    Encoding.number(out, ((double[]) column)[r]);
+                } else {
+                    Encoding.value(out, ((Object[]) column)[r]);
+                }
+            }
+            out.append(']');
+        }
+        out.append('}');
+    }
+}
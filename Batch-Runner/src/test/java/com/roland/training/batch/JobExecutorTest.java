@@ -0,0 +1,45 @@
+package com.roland.training.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.roland.training.motor.DCMotorEngine;
+
+class JobExecutorTest {
+
+    private static JobSpec job(String tool, String... keyValues) {
+        Map<String, String> params = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            params.put(keyValues[i], keyValues[i + 1]);
+        }
+        return new JobSpec("test", tool, params, 1);
+    }
+
+    @Test
+    void motorJobWithOnlyKpKeepsDefaultKiAndKd() {
+        JobResult result = JobExecutor.run(job("motor", "kp", "2.0", "simulationTime", "0.5"));
+
+        DCMotorEngine expected = new DCMotorEngine();
+        expected.setKp(2.0);
+        expected.setSimulationTime(0.5);
+        double[] omega = expected.simulateDCMotorControl().getOmega();
+
+        assertEquals(omega.length, result.getMetrics().get("steps"));
+        assertEquals(omega[omega.length - 1], (double) result.getMetrics().get("finalSpeed"), 0.0);
+    }
+
+    @Test
+    void relayJobWithUnknownCurveIsRejected() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> JobExecutor.run(job("relay", "relays", "R1:1.5:0.1:Inverse,R2:1.2:0.2:Very Inversee",
+                        "faults", "Fault_A:5.0")));
+
+        assertTrue(e.getMessage().startsWith("Job 'test': unknown curve 'Very Inversee'"), e.getMessage());
+    }
+}
@@ -0,0 +1,39 @@
+package com.roland.training.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JobFileTest {
+
+    @TempDir
+    Path dir;
+
+    private List<JobSpec> parse(String content) throws IOException {
+        Path file = dir.resolve("jobs.txt");
+        Files.writeString(file, content);
+        return JobFile.parse(file);
+    }
+
+    @Test
+    void acceptsFileSafeNames() throws IOException {
+        List<JobSpec> jobs = parse("# comment\nbuck-1.v2_a buck dutyCycle=0.5\n");
+        assertEquals(1, jobs.size());
+        assertEquals("buck-1.v2_a", jobs.get(0).getName());
+    }
+
+    @Test
+    void rejectsNamesThatEscapeTheOutputDirectory() {
+        assertThrows(IllegalArgumentException.class, () -> parse("../../../tmp/escape buck\n"));
+        assertThrows(IllegalArgumentException.class, () -> parse("a..b buck\n"));
+        assertThrows(IllegalArgumentException.class, () -> parse("/tmp/escape buck\n"));
+        assertThrows(IllegalArgumentException.class, () -> parse("summary buck\n"));
+    }
+}
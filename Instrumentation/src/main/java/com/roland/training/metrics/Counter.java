@@ -0,0 +1,29 @@
+package com.roland.training.metrics;
+
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Monotonic counter, safe to update from many threads with little contention.
+ */
+public final class Counter {
+
+    private final DoubleAdder value = new DoubleAdder();
+
+    Counter() {
+    }
+
+    public void inc() {
+        value.add(1.0);
+    }
+
+    public void add(double amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Counters can only increase: " + amount);
+        }
+        value.add(amount);
+    }
+
+    public double get() {
+        return value.sum();
+    }
+}
@@ -0,0 +1,27 @@
+package com.roland.training.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One CSV file read by a data loader.
+ */
+@Name("com.roland.training.CsvIngest")
+@Label("CSV Ingest")
+@Category({"Electrical Projects", "I/O"})
+public class CsvIngestEvent extends Event {
+
+    @Label("Loader")
+    public String loader;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Rows Parsed")
+    public long rows;
+
+    @Label("Rows Per Second")
+    public double rowsPerSecond;
+}
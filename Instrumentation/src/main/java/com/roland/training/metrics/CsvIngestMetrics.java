@@ -0,0 +1,49 @@
+package com.roland.training.metrics;
+
+/**
+ * Row and timing counters of one CSV loader, plus its {@link CsvIngestEvent}.
+ */
+public final class CsvIngestMetrics {
+
+    private final String loader;
+    private final Counter rows;
+    private final Counter seconds;
+    private final Gauge rowsPerSecond;
+
+    private CsvIngestMetrics(String loader) {
+        MetricsRegistry registry = MetricsRegistry.global();
+        this.loader = loader;
+        this.rows = registry.counter("roland_csv_rows_parsed_total", "CSV data rows parsed", "loader", loader);
+        this.seconds = registry.counter("roland_csv_parse_seconds_total", "Time spent reading and parsing CSV files", "loader", loader);
+        this.rowsPerSecond = registry.gauge("roland_csv_rows_per_second", "Parse throughput of the most recent CSV file", "loader", loader);
+    }
+
+    public static CsvIngestMetrics forLoader(String loader) {
+        return new CsvIngestMetrics(loader);
+    }
+
+    /**
+     * Records a finished file. {@code event} must have been begun, and {@code startNanos} taken from
+     * {@link System#nanoTime()}, when reading started.
+     */
+    public void record(CsvIngestEvent event, String path, long rowCount, long startNanos) {
+        boolean commit = event.shouldCommit();
+        if (!MetricsRegistry.ENABLED && !commit) {
+            return;
+        }
+        double elapsed = (System.nanoTime() - startNanos) / 1e9;
+        double rate = elapsed > 0 ? rowCount / elapsed : 0.0;
+        if (MetricsRegistry.ENABLED) {
+            rows.add(rowCount);
+            seconds.add(elapsed);
+            rowsPerSecond.set(rate);
+        }
+        if (commit) {
+            event.loader = loader;
+            event.path = path;
+            event.rows = rowCount;
+            event.rowsPerSecond = rate;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.roland.training.metrics;
+
+/**
+ * Last-value metric, e.g. the throughput of the most recent CSV ingest.
+ */
+public final class Gauge {
+
+    private volatile double value;
+
+    Gauge() {
+    }
+
+    public void set(double value) {
+        this.value = value;
+    }
+
+    public double get() {
+        return value;
+    }
+}
@@ -0,0 +1,134 @@
+package com.roland.training.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-process registry of counters and gauges that can be scraped in the Prometheus text format.
+ * <p>
+ * Instrumented code updates metrics only when {@link #ENABLED} is true, which is read once from the
+ * {@code roland.metrics} system property. Being a static final constant, the JIT removes the disabled
+ * branches entirely. JFR events are independent of this switch: they cost nothing unless a recording
+ * has enabled them.
+ */
+public final class MetricsRegistry {
+
+    public static final boolean ENABLED = Boolean.getBoolean("roland.metrics");
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private static final class Family {
+        final String help;
+        final String type;
+        final Map<String, Object> series = new ConcurrentSkipListMap<>();
+
+        Family(String help, String type) {
+            this.help = help;
+            this.type = type;
+        }
+    }
+
+    private final Map<String, Family> families = new ConcurrentSkipListMap<>();
+    private final Map<String, Object> byKey = new ConcurrentHashMap<>();
+
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns the counter with this name and labels, creating it on first use.
+     *
+     * @param labels alternating label names and values, e.g. {@code "tool", "buck"}
+     */
+    public Counter counter(String name, String help, String... labels) {
+        return (Counter) register(name, help, "counter", labels);
+    }
+
+    public Gauge gauge(String name, String help, String... labels) {
+        return (Gauge) register(name, help, "gauge", labels);
+    }
+
+    private Object register(String name, String help, String type, String[] labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name/value pairs: " + name);
+        }
+        String labelText = formatLabels(labels);
+        return byKey.computeIfAbsent(name + labelText, key -> {
+            Family family = families.computeIfAbsent(name, n -> new Family(help, type));
+            if (!family.type.equals(type)) {
+                throw new IllegalArgumentException(name + " is already registered as a " + family.type);
+            }
+            Object metric = type.equals("counter") ? new Counter() : new Gauge();
+            family.series.put(labelText, metric);
+            return metric;
+        });
+    }
+
+    private static String formatLabels(String[] labels) {
+        if (labels.length == 0) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(labels[i]).append("=\"");
+            String value = labels[i + 1];
+            for (int j = 0; j < value.length(); j++) {
+                char ch = value.charAt(j);
+                if (ch == '\\' || ch == '"') {
+                    sb.append('\\').append(ch);
+                } else if (ch == '\n') {
+                    sb.append("\\n");
+                } else {
+                    sb.append(ch);
+                }
+            }
+            sb.append('"');
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Writes every metric in the Prometheus text exposition format (version 0.0.4).
+     */
+    public void writePrometheus(Appendable out) throws IOException {
+        for (Map.Entry<String, Family> entry : families.entrySet()) {
+            String name = entry.getKey();
+            Family family = entry.getValue();
+            out.append("# HELP ").append(name).append(' ').append(family.help).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(family.type).append('\n');
+            for (Map.Entry<String, Object> series : family.series.entrySet()) {
+                Object metric = series.getValue();
+                double value = metric instanceof Counter ? ((Counter) metric).get() : ((Gauge) metric).get();
+                out.append(name).append(series.getKey()).append(' ').append(formatValue(value)).append('\n');
+            }
+        }
+    }
+
+    public String scrape() {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writePrometheus(sb);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // StringBuilder does not throw
+        }
+        return sb.toString();
+    }
+
+    private static String formatValue(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+}
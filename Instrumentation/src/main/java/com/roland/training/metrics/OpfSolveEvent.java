@@ -0,0 +1,24 @@
+package com.roland.training.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One optimal power flow solve.
+ */
+@Name("com.roland.training.OpfSolve")
+@Label("OPF Solve")
+@Category({"Electrical Projects", "Optimization"})
+public class OpfSolveEvent extends Event {
+
+    @Label("Objective Evaluations")
+    public long objectiveEvaluations;
+
+    @Label("Total Cost")
+    public double totalCost;
+
+    @Label("Converged")
+    public boolean converged;
+}
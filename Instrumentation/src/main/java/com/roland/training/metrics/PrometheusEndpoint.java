@@ -0,0 +1,54 @@
+package com.roland.training.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves a registry at {@code http://host:port/metrics} using the JDK's built-in HTTP server.
+ * The endpoint has no authentication, so it listens on the loopback interface unless a host is given.
+ */
+public final class PrometheusEndpoint implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private PrometheusEndpoint(HttpServer server) {
+        this.server = server;
+    }
+
+    public static PrometheusEndpoint start(int port, MetricsRegistry registry) throws IOException {
+        return start(InetAddress.getLoopbackAddress(), port, registry);
+    }
+
+    // Binds to host; pass the wildcard address (0.0.0.0) to serve every interface
+    public static PrometheusEndpoint start(InetAddress host, int port, MetricsRegistry registry) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        server.createContext("/metrics", exchange -> {
+            byte[] body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        return new PrometheusEndpoint(server);
+    }
+
+    public InetAddress getHost() {
+        return server.getAddress().getAddress();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,27 @@
+package com.roland.training.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One buck converter or DC motor simulation run.
+ */
+@Name("com.roland.training.Simulation")
+@Label("Simulation Run")
+@Category({"Electrical Projects", "Simulation"})
+@Description("Time-stepped simulation of a converter or motor")
+public class SimulationEvent extends Event {
+
+    @Label("Tool")
+    public String tool;
+
+    @Label("Steps")
+    public long steps;
+
+    @Label("Integrator Calls")
+    @Description("Calls into the ODE integrator, or explicit Euler updates for hand-written loops")
+    public long integratorCalls;
+}
@@ -0,0 +1,42 @@
+package com.roland.training.metrics;
+
+/**
+ * Run, step and integrator-call counters of one simulation tool, plus its {@link SimulationEvent}.
+ */
+public final class SimulationMetrics {
+
+    private final String tool;
+    private final Counter runs;
+    private final Counter steps;
+    private final Counter integratorCalls;
+
+    private SimulationMetrics(String tool) {
+        MetricsRegistry registry = MetricsRegistry.global();
+        this.tool = tool;
+        this.runs = registry.counter("roland_simulation_runs_total", "Completed simulation runs", "tool", tool);
+        this.steps = registry.counter("roland_simulation_steps_total", "Simulation time steps taken", "tool", tool);
+        this.integratorCalls = registry.counter("roland_integrator_calls_total",
+                "Integrator invocations, or explicit Euler updates for hand-written loops", "tool", tool);
+    }
+
+    public static SimulationMetrics forTool(String tool) {
+        return new SimulationMetrics(tool);
+    }
+
+    /**
+     * Records a finished run. {@code event} must have been begun when the run started.
+     */
+    public void record(SimulationEvent event, long stepCount, long integratorCallCount) {
+        if (MetricsRegistry.ENABLED) {
+            runs.inc();
+            steps.add(stepCount);
+            integratorCalls.add(integratorCallCount);
+        }
+        if (event.shouldCommit()) {
+            event.tool = tool;
+            event.steps = stepCount;
+            event.integratorCalls = integratorCallCount;
+            event.commit();
+        }
+    }
+}
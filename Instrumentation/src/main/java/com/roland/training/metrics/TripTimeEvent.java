@@ -0,0 +1,21 @@
+package com.roland.training.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A batch of relay tripping-time evaluations, e.g. filling a relay x fault matrix.
+ */
+@Name("com.roland.training.TripTimes")
+@Label("Trip-Time Evaluations")
+@Category({"Electrical Projects", "Protection"})
+public class TripTimeEvent extends Event {
+
+    @Label("Source")
+    public String source;
+
+    @Label("Evaluations")
+    public long evaluations;
+}
@@ -0,0 +1,39 @@
+package com.roland.training.metrics;
+
+/**
+ * Counts relay tripping-time evaluations from one source, plus its {@link TripTimeEvent}.
+ */
+public final class TripTimeMetrics {
+
+    private final String source;
+    private final Counter evaluations;
+
+    private TripTimeMetrics(String source) {
+        this.source = source;
+        this.evaluations = MetricsRegistry.global().counter("roland_relay_trip_time_evaluations_total",
+                "Relay tripping-time evaluations", "source", source);
+    }
+
+    public static TripTimeMetrics forSource(String source) {
+        return new TripTimeMetrics(source);
+    }
+
+    // Counter only, for single evaluations on hot paths
+    public void add(long count) {
+        if (MetricsRegistry.ENABLED) {
+            evaluations.add(count);
+        }
+    }
+
+    /**
+     * Records a finished batch. {@code event} must have been begun when the batch started.
+     */
+    public void record(TripTimeEvent event, long count) {
+        add(count);
+        if (event.shouldCommit()) {
+            event.source = source;
+            event.evaluations = count;
+            event.commit();
+        }
+    }
+}
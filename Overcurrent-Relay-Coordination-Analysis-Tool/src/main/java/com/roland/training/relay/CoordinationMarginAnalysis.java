@@ -0,0 +1,304 @@
+package com.roland.training.relay;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.apache.commons.math3.analysis.UnivariateFunction;
+import org.apache.commons.math3.analysis.solvers.BrentSolver;
+
+/**
+ * Minimum coordination time interval of each primary/backup pair over a continuous fault-current
+ * range, rather than only at a few discrete fault currents.
+ *
+ * A pair is only coordinated if the backup operates at every current in the range at which the
+ * primary does; a backup pickup at or above such a current means backup protection is lost there.
+ *
+ * CTI(I) = t_backup(I) - t_primary(I) is smooth where both relays operate, so its minimum lies at
+ * an end of the range or where dCTI/dI changes sign from negative to positive. The range starts as a
+ * 32-segment log-spaced grid. Every IEC curve has T' < 0 increasing and T'' > 0 decreasing above
+ * pickup, so the endpoint values of the closed-form T' and T'' bound dCTI/dI and d2CTI/dI2 over a
+ * segment. A segment whose slope bound excludes zero holds no extremum. One whose curvature bound
+ * excludes zero has a monotone slope, so a single sign change, refined with Brent's method. Any
+ * other segment is halved. Every local minimum is found this way; only a point where slope and
+ * curvature vanish together (not a strict minimum) is left to the halving limit, where CTI is sampled.
+ * Pairs are analyzed in parallel.
+ */
+public class CoordinationMarginAnalysis {
+
+    private static final int BRACKET_SEGMENTS = 32;
+    private static final int MAX_HALVINGS = 60;
+    private static final int MAX_SOLVER_EVALUATIONS = 200;
+
+    private final RelaySettings relays;
+    private double requiredCti = 0.2;
+
+    public enum Status {
+        COORDINATED,
+        MISCOORDINATED,           // CTI below the required interval somewhere in the range
+        BACKUP_NEVER_OPERATES,    // Backup pickup at or above the maximum fault level
+        BACKUP_COVERAGE_GAP,      // Backup does not operate for part of the range in which the primary does
+        PRIMARY_NEVER_OPERATES    // Nothing to coordinate: the primary does not trip anywhere in the range
+    }
+
+    public static class Margin {
+        private final Status status;
+        private final int primaryIndex;
+        private final int backupIndex;
+        private final double worstCurrentPu;
+        private final double minCti;
+        private final double requiredCti;
+
+        Margin(Status status, int primaryIndex, int backupIndex, double worstCurrentPu, double minCti,
+               double requiredCti) {
+            this.status = status;
+            this.primaryIndex = primaryIndex;
+            this.backupIndex = backupIndex;
+            this.worstCurrentPu = worstCurrentPu;
+            this.minCti = minCti;
+            this.requiredCti = requiredCti;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public int getPrimaryIndex() {
+            return primaryIndex;
+        }
+
+        public int getBackupIndex() {
+            return backupIndex;
+        }
+
+        // Fault current with the smallest CTI; for a backup coverage problem, the highest current the
+        // backup does not operate at; NaN if the primary never operates in the range
+        public double getWorstCurrentPu() {
+            return worstCurrentPu;
+        }
+
+        // NaN unless the backup operates throughout the part of the range in which the primary does
+        public double getMinCti() {
+            return minCti;
+        }
+
+        // Minimum CTI minus the required CTI; negative means miscoordination somewhere in the range
+        public double getMargin() {
+            return minCti - requiredCti;
+        }
+
+        public boolean isCoordinated() {
+            return status == Status.COORDINATED || status == Status.PRIMARY_NEVER_OPERATES;
+        }
+    }
+
+    public CoordinationMarginAnalysis(RelaySettings relays) {
+        this.relays = relays;
+    }
+
+    public void setRequiredCti(double requiredCti) {
+        this.requiredCti = requiredCti;
+    }
+
+    /**
+     * Analyzes every pair over the range spanned by its own fault cases.
+     */
+    public Margin[] analyze(List<RelayPair> pairs, FaultCases faults) {
+        double[] minFaultPu = new double[pairs.size()];
+        double[] maxFaultPu = new double[pairs.size()];
+        for (int i = 0; i < pairs.size(); i++) {
+            minFaultPu[i] = Double.POSITIVE_INFINITY;
+            maxFaultPu[i] = Double.NEGATIVE_INFINITY;
+            for (int fault : pairs.get(i).getFaultIndices()) {
+                double current = faults.getFaultCurrentPu(fault);
+                minFaultPu[i] = Math.min(minFaultPu[i], current);
+                maxFaultPu[i] = Math.max(maxFaultPu[i], current);
+            }
+        }
+        return analyze(pairs, minFaultPu, maxFaultPu);
+    }
+
+    /**
+     * Analyzes every pair over [minFaultPu[i], maxFaultPu[i]], the minimum and maximum fault level of pair i.
+     */
+    public Margin[] analyze(List<RelayPair> pairs, double[] minFaultPu, double[] maxFaultPu) {
+        if (minFaultPu.length != pairs.size() || maxFaultPu.length != pairs.size()) {
+            throw new IllegalArgumentException("Expected one fault-current range per relay pair.");
+        }
+        Margin[] margins = new Margin[pairs.size()];
+        IntStream.range(0, pairs.size()).parallel().forEach(i -> {
+            RelayPair pair = pairs.get(i);
+            margins[i] = analyzePair(pair.getPrimaryIndex(), pair.getBackupIndex(), minFaultPu[i], maxFaultPu[i]);
+        });
+        return margins;
+    }
+
+    public Margin analyzePair(int primary, int backup, double minFaultPu, double maxFaultPu) {
+        RelayCurve primaryCurve = relays.getCurve(primary);
+        RelayCurve backupCurve = relays.getCurve(backup);
+        double primaryPickup = relays.getPickupCurrentPu(primary);
+        double backupPickup = relays.getPickupCurrentPu(backup);
+        double primaryTms = relays.getTms(primary);
+        double backupTms = relays.getTms(backup);
+
+        // Only currents at which the primary operates need a backup; the relays trip above their pickups
+        double lower = Math.max(minFaultPu, Math.nextUp(primaryPickup));
+        double upper = maxFaultPu;
+        if (!(lower <= upper)) {
+            return new Margin(Status.PRIMARY_NEVER_OPERATES, primary, backup, Double.NaN, Double.NaN, requiredCti);
+        }
+        if (backupPickup >= upper) {
+            return new Margin(Status.BACKUP_NEVER_OPERATES, primary, backup, upper, Double.NaN, requiredCti);
+        }
+        if (backupPickup >= lower) {
+            return new Margin(Status.BACKUP_COVERAGE_GAP, primary, backup, backupPickup, Double.NaN, requiredCti);
+        }
+
+        PairSearch search = new PairSearch(primaryCurve, primaryPickup, primaryTms, backupCurve, backupPickup, backupTms);
+        search.candidate(lower);
+        search.candidate(upper);
+        if (upper > lower) {
+            double logLower = Math.log(lower);
+            double step = (Math.log(upper) - logLower) / BRACKET_SEGMENTS;
+            double a = lower;
+            for (int s = 1; s <= BRACKET_SEGMENTS; s++) {
+                double b = s == BRACKET_SEGMENTS ? upper : Math.exp(logLower + s * step);
+                search.searchSegment(a, b, 0);
+                a = b;
+            }
+        }
+        double worstCurrent = search.worstCurrent;
+        double minCti = search.minCti;
+        Status status = minCti >= requiredCti ? Status.COORDINATED : Status.MISCOORDINATED;
+        return new Margin(status, primary, backup, worstCurrent, minCti, requiredCti);
+    }
+
+    // Locates the minimum CTI of one pair; not shared between threads
+    private static final class PairSearch {
+        private final RelayCurve primaryCurve;
+        private final double primaryPickup;
+        private final double primaryTms;
+        private final RelayCurve backupCurve;
+        private final double backupPickup;
+        private final double backupTms;
+        private final UnivariateFunction slope;
+        private final BrentSolver solver = new BrentSolver(1e-14, 1e-12);
+
+        double worstCurrent = Double.NaN;
+        double minCti = Double.POSITIVE_INFINITY;
+
+        PairSearch(RelayCurve primaryCurve, double primaryPickup, double primaryTms,
+                   RelayCurve backupCurve, double backupPickup, double backupTms) {
+            this.primaryCurve = primaryCurve;
+            this.primaryPickup = primaryPickup;
+            this.primaryTms = primaryTms;
+            this.backupCurve = backupCurve;
+            this.backupPickup = backupPickup;
+            this.backupTms = backupTms;
+            this.slope = current -> backupSlope(current) - primarySlope(current);
+        }
+
+        private double primarySlope(double current) {
+            return primaryCurve.tripTimeDerivative(current, primaryPickup, primaryTms);
+        }
+
+        private double backupSlope(double current) {
+            return backupCurve.tripTimeDerivative(current, backupPickup, backupTms);
+        }
+
+        private double primaryCurvature(double current) {
+            return primaryCurve.tripTimeSecondDerivative(current, primaryPickup, primaryTms);
+        }
+
+        private double backupCurvature(double current) {
+            return backupCurve.tripTimeSecondDerivative(current, backupPickup, backupTms);
+        }
+
+        void candidate(double current) {
+            double cti = backupCurve.tripTime(current, backupPickup, backupTms)
+                    - primaryCurve.tripTime(current, primaryPickup, primaryTms);
+            if (cti < minCti) {
+                worstCurrent = current;
+                minCti = cti;
+            }
+        }
+
+        // Finds every local minimum of CTI strictly inside [a, b]
+        void searchSegment(double a, double b, int halvings) {
+            // T' increases with current, so dCTI/dI lies in [Tb'(a) - Tp'(b), Tb'(b) - Tp'(a)]
+            double slopeA = slope.value(a);
+            double slopeB = slope.value(b);
+            if (backupSlope(a) - primarySlope(b) > 0 || backupSlope(b) - primarySlope(a) < 0) {
+                return;
+            }
+            // T'' decreases with current, so d2CTI/dI2 lies in [Tb''(b) - Tp''(a), Tb''(a) - Tp''(b)]
+            if (backupCurvature(b) - primaryCurvature(a) > 0) {
+                // Slope increasing: at most one root, and it is a minimum
+                if (slopeA < 0 && slopeB > 0) {
+                    candidate(solver.solve(MAX_SOLVER_EVALUATIONS, slope, a, b));
+                }
+                return;
+            }
+            if (backupCurvature(a) - primaryCurvature(b) < 0) {
+                return; // Slope decreasing: any root is a maximum
+            }
+            double mid = Math.sqrt(a * b);
+            if (halvings == MAX_HALVINGS || !(mid > a && mid < b)) {
+                candidate(mid); // Slope and curvature both vanish here
+                return;
+            }
+            searchSegment(a, mid, halvings + 1);
+            searchSegment(mid, b, halvings + 1);
+        }
+    }
+
+    public static void main(String[] args) {
+        // The relays from OvercurrentRelayAnalysis, checked between 2.0 and 5.0 pu
+        RelaySettings relays = new RelaySettings();
+        relays.add("R1", 1.5, 0.1, RelayCurve.INVERSE);
+        relays.add("R2", 1.2, 0.2, RelayCurve.VERY_INVERSE);
+        relays.add("R3", 1.0, 0.3, RelayCurve.INVERSE);
+        List<RelayPair> pairs = new ArrayList<>();
+        pairs.add(new RelayPair(0, 1));
+        pairs.add(new RelayPair(1, 2));
+
+        CoordinationMarginAnalysis analysis = new CoordinationMarginAnalysis(relays);
+        Margin[] margins = analysis.analyze(pairs, new double[]{2.0, 2.0}, new double[]{5.0, 5.0});
+        System.out.println("Continuous Coordination Margins (2.0 - 5.0 pu):");
+        for (Margin margin : margins) {
+            System.out.printf("%s -> %s: minimum CTI %.3f s at %.3f pu (%s)%n",
+                    relays.getRelayId(margin.getPrimaryIndex()), relays.getRelayId(margin.getBackupIndex()),
+                    margin.getMinCti(), margin.getWorstCurrentPu(),
+                    margin.isCoordinated() ? "acceptable" : "might need adjustment: " + margin.getStatus());
+        }
+
+        // Timing on a synthetic study
+        int numPairs = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        Random random = new Random(3);
+        RelayCurve[] curves = RelayCurve.values();
+        RelaySettings study = new RelaySettings();
+        List<RelayPair> studyPairs = new ArrayList<>();
+        double[] minFault = new double[numPairs];
+        double[] maxFault = new double[numPairs];
+        for (int i = 0; i < numPairs; i++) {
+            int primary = study.add("P" + i, 1.0 + random.nextDouble(), 0.05 + 0.3 * random.nextDouble(),
+                    curves[random.nextInt(curves.length)]);
+            int backup = study.add("B" + i, 1.0 + random.nextDouble(), 0.2 + 0.5 * random.nextDouble(),
+                    curves[random.nextInt(curves.length)]);
+            studyPairs.add(new RelayPair(primary, backup));
+            minFault[i] = 2.0 + 2.0 * random.nextDouble();
+            maxFault[i] = minFault[i] + 5.0 + 20.0 * random.nextDouble();
+        }
+        CoordinationMarginAnalysis studyAnalysis = new CoordinationMarginAnalysis(study);
+        long start = System.nanoTime();
+        Margin[] studyMargins = studyAnalysis.analyze(studyPairs, minFault, maxFault);
+        long elapsed = System.nanoTime() - start;
+        long violations = Arrays.stream(studyMargins).filter(m -> !m.isCoordinated()).count();
+        long lostBackup = Arrays.stream(studyMargins).filter(m -> m.getStatus() == Status.BACKUP_NEVER_OPERATES
+                || m.getStatus() == Status.BACKUP_COVERAGE_GAP).count();
+        System.out.printf("%nAnalyzed %d pairs in %.1f ms, %d need adjustment (%d without full backup coverage)%n",
+                numPairs, elapsed / 1e6, violations, lostBackup);
+    }
+}
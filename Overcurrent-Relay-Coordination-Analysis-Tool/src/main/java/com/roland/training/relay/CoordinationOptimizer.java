@@ -0,0 +1,409 @@
+package com.roland.training.relay;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Chooses TMS and pickup settings for every relay of a network so that the total primary operating
+ * time is minimal while each primary/backup pair keeps its coordination time interval (CTI) within
+ * bounds at all of its fault cases.
+ *
+ * For fixed pickups the tripping time is linear in TMS, so the inner problem is an LP. Every CTI
+ * constraint involves just two relays with positive coefficients (t_b - t_p >= CTI_min lifts the
+ * backup's TMS, t_b - t_p <= CTI_max lifts the primary's), so the feasible set is closed under
+ * component-wise minimum and its least element is the LP optimum for any positive objective. That
+ * least element is found exactly by monotone fixed-point sweeps from the TMS lower bound, which
+ * is far cheaper than a general simplex on thousands of variables. The outer search is a
+ * coordinate descent over each relay's discrete pickup candidates, evaluated in parallel.
+ */
+public class CoordinationOptimizer {
+
+    private static final double TOLERANCE = 1e-9;
+    private static final double CTI_TOLERANCE = 1e-6;
+    private static final int MAX_SWEEPS = 10000;
+    private static final int MAX_PASSES = 50;
+
+    private final RelaySettings relays;
+    private final int numRelays;
+    private final double[][] candidates; // Pickup candidates per relay, [0] is the current pickup
+
+    // Coordination cases, one per (pair, fault)
+    private final int numCases;
+    private final int[] casePrimary;
+    private final int[] caseBackup;
+    private final boolean[] caseInObjective; // First case of each distinct (primary, fault)
+    private final double[][] primaryUnitTimes; // [case][primary candidate] trip time at TMS = 1
+    private final double[][] backupUnitTimes;  // [case][backup candidate] trip time at TMS = 1
+
+    private double minCti = 0.2;
+    private double maxCti = 0.5;
+    private double minTms = 0.025;
+    private double maxTms = 1.2;
+
+    private static class Solution {
+        final double[] tms;
+        final double objective;
+        final int violations;
+
+        Solution(double[] tms, double objective, int violations) {
+            this.tms = tms;
+            this.objective = objective;
+            this.violations = violations;
+        }
+
+        boolean isBetterThan(Solution other) {
+            if (violations != other.violations) {
+                return violations < other.violations;
+            }
+            return objective < other.objective - TOLERANCE;
+        }
+    }
+
+    private static class Move {
+        final int relay;
+        final int candidate;
+        final Solution solution;
+
+        Move(int relay, int candidate, Solution solution) {
+            this.relay = relay;
+            this.candidate = candidate;
+            this.solution = solution;
+        }
+    }
+
+    public static class Result {
+        private final double[] tms;
+        private final double[] pickupCurrentPu;
+        private final double totalPrimaryTime;
+        private final int violations;
+        private final int passes;
+
+        Result(double[] tms, double[] pickupCurrentPu, double totalPrimaryTime, int violations, int passes) {
+            this.tms = tms;
+            this.pickupCurrentPu = pickupCurrentPu;
+            this.totalPrimaryTime = totalPrimaryTime;
+            this.violations = violations;
+            this.passes = passes;
+        }
+
+        public double getTms(int relay) {
+            return tms[relay];
+        }
+
+        public double getPickupCurrentPu(int relay) {
+            return pickupCurrentPu[relay];
+        }
+
+        public double getTotalPrimaryTime() {
+            return totalPrimaryTime;
+        }
+
+        // Coordination cases outside the CTI window or with a relay that does not pick up the fault
+        public int getViolations() {
+            return violations;
+        }
+
+        public boolean isFeasible() {
+            return violations == 0;
+        }
+
+        public int getPasses() {
+            return passes;
+        }
+
+        public void applyTo(RelaySettings settings) {
+            for (int r = 0; r < tms.length; r++) {
+                settings.setTms(r, tms[r]);
+                settings.setPickupCurrentPu(r, pickupCurrentPu[r]);
+            }
+        }
+    }
+
+    /**
+     * @param pickupCandidates discrete pickup settings per relay index; null, or a null entry,
+     *                         keeps that relay's current pickup fixed
+     */
+    public CoordinationOptimizer(RelaySettings relays, FaultCases faults, List<RelayPair> pairs, double[][] pickupCandidates) {
+        this.relays = relays;
+        this.numRelays = relays.size();
+        if (pickupCandidates != null && pickupCandidates.length != numRelays) {
+            throw new IllegalArgumentException("Expected pickup candidates for " + numRelays + " relays.");
+        }
+
+        candidates = new double[numRelays][];
+        for (int r = 0; r < numRelays; r++) {
+            double current = relays.getPickupCurrentPu(r);
+            List<Double> list = new ArrayList<>();
+            list.add(current);
+            if (pickupCandidates != null && pickupCandidates[r] != null) {
+                for (double candidate : pickupCandidates[r]) {
+                    if (candidate > 0 && !list.contains(candidate)) {
+                        list.add(candidate);
+                    }
+                }
+            }
+            candidates[r] = list.stream().mapToDouble(Double::doubleValue).toArray();
+        }
+
+        List<int[]> cases = new ArrayList<>();
+        for (RelayPair pair : pairs) {
+            for (int fault : pair.getFaultIndices()) {
+                cases.add(new int[]{pair.getPrimaryIndex(), pair.getBackupIndex(), fault});
+            }
+        }
+        // Sweep downstream relays first so a radial network settles in a couple of sweeps
+        int[] rank = downstreamFirstRanks(pairs);
+        cases.sort(Comparator.comparingInt(entry -> rank[entry[0]]));
+        numCases = cases.size();
+        casePrimary = new int[numCases];
+        caseBackup = new int[numCases];
+        caseInObjective = new boolean[numCases];
+        int[] caseFault = new int[numCases];
+        Set<Long> primaryFaults = new HashSet<>();
+        for (int c = 0; c < numCases; c++) {
+            int[] entry = cases.get(c);
+            casePrimary[c] = entry[0];
+            caseBackup[c] = entry[1];
+            caseFault[c] = entry[2];
+            caseInObjective[c] = primaryFaults.add((long) entry[0] * faults.size() + entry[2]);
+        }
+
+        // Unit trip times only depend on the pickup choice, so they are evaluated once up front
+        primaryUnitTimes = new double[numCases][];
+        backupUnitTimes = new double[numCases][];
+        IntStream.range(0, numCases).parallel().forEach(c -> {
+            double faultCurrent = faults.getFaultCurrentPu(caseFault[c]);
+            primaryUnitTimes[c] = unitTimes(casePrimary[c], faultCurrent);
+            backupUnitTimes[c] = unitTimes(caseBackup[c], faultCurrent);
+        });
+    }
+
+    // Topological rank along primary -> backup edges; relays on a mesh loop are ranked last
+    private int[] downstreamFirstRanks(List<RelayPair> pairs) {
+        int[] inDegree = new int[numRelays];
+        List<List<Integer>> backups = new ArrayList<>();
+        for (int r = 0; r < numRelays; r++) {
+            backups.add(new ArrayList<>());
+        }
+        for (RelayPair pair : pairs) {
+            backups.get(pair.getPrimaryIndex()).add(pair.getBackupIndex());
+            inDegree[pair.getBackupIndex()]++;
+        }
+
+        int[] rank = new int[numRelays];
+        Arrays.fill(rank, numRelays);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int r = 0; r < numRelays; r++) {
+            if (inDegree[r] == 0) {
+                queue.add(r);
+            }
+        }
+        int next = 0;
+        while (!queue.isEmpty()) {
+            int relay = queue.poll();
+            rank[relay] = next++;
+            for (int backup : backups.get(relay)) {
+                if (--inDegree[backup] == 0) {
+                    queue.add(backup);
+                }
+            }
+        }
+        return rank;
+    }
+
+    private double[] unitTimes(int relay, double faultCurrentPu) {
+        RelayCurve curve = relays.getCurve(relay);
+        double[] times = new double[candidates[relay].length];
+        for (int k = 0; k < times.length; k++) {
+            times[k] = curve.tripTime(faultCurrentPu, candidates[relay][k], 1.0);
+        }
+        return times;
+    }
+
+    public void setCtiBounds(double minCti, double maxCti) {
+        if (minCti < 0 || maxCti <= minCti) {
+            throw new IllegalArgumentException("Invalid CTI bounds: " + minCti + ", " + maxCti);
+        }
+        this.minCti = minCti;
+        this.maxCti = maxCti;
+    }
+
+    public void setTmsBounds(double minTms, double maxTms) {
+        if (minTms <= 0 || maxTms < minTms) {
+            throw new IllegalArgumentException("Invalid TMS bounds: " + minTms + ", " + maxTms);
+        }
+        this.minTms = minTms;
+        this.maxTms = maxTms;
+    }
+
+    // Least TMS vector satisfying every CTI constraint for the given pickup choice
+    private Solution solve(int[] choice) {
+        double[] tms = new double[numRelays];
+        Arrays.fill(tms, minTms);
+
+        // Forward pass lifts backups (downstream first), backward pass lifts primaries (upstream first)
+        boolean changed = true;
+        for (int sweep = 0; changed && sweep < MAX_SWEEPS; sweep++) {
+            changed = false;
+            for (int c = 0; c < numCases; c++) {
+                int p = casePrimary[c];
+                int b = caseBackup[c];
+                double ap = primaryUnitTimes[c][choice[p]];
+                double ab = backupUnitTimes[c][choice[b]];
+                if (Double.isInfinite(ap) || Double.isInfinite(ab)) {
+                    continue;
+                }
+                double backupNeeded = Math.min(maxTms, (minCti + ap * tms[p]) / ab);
+                if (backupNeeded > tms[b]) {
+                    changed |= backupNeeded - tms[b] > TOLERANCE;
+                    tms[b] = backupNeeded;
+                }
+            }
+            for (int c = numCases - 1; c >= 0; c--) {
+                int p = casePrimary[c];
+                int b = caseBackup[c];
+                double ap = primaryUnitTimes[c][choice[p]];
+                double ab = backupUnitTimes[c][choice[b]];
+                if (Double.isInfinite(ap) || Double.isInfinite(ab)) {
+                    continue;
+                }
+                double primaryNeeded = Math.min(maxTms, (ab * tms[b] - maxCti) / ap);
+                if (primaryNeeded > tms[p]) {
+                    changed |= primaryNeeded - tms[p] > TOLERANCE;
+                    tms[p] = primaryNeeded;
+                }
+            }
+        }
+
+        double objective = 0.0;
+        int violations = 0;
+        for (int c = 0; c < numCases; c++) {
+            int p = casePrimary[c];
+            int b = caseBackup[c];
+            double ap = primaryUnitTimes[c][choice[p]];
+            double ab = backupUnitTimes[c][choice[b]];
+            if (Double.isInfinite(ap) || Double.isInfinite(ab)) {
+                violations++; // Primary or backup does not pick up the fault
+                continue;
+            }
+            double cti = ab * tms[b] - ap * tms[p];
+            if (cti < minCti - CTI_TOLERANCE || cti > maxCti + CTI_TOLERANCE) {
+                violations++;
+            }
+            if (caseInObjective[c]) {
+                objective += ap * tms[p];
+            }
+        }
+        return new Solution(tms, objective, violations);
+    }
+
+    private Move bestMove(int[] choice, Solution base, int relay) {
+        Move best = null;
+        Solution bestSolution = base;
+        int[] trial = choice.clone();
+        for (int k = 0; k < candidates[relay].length; k++) {
+            if (k == choice[relay]) {
+                continue;
+            }
+            trial[relay] = k;
+            Solution solution = solve(trial);
+            if (solution.isBetterThan(bestSolution)) {
+                bestSolution = solution;
+                best = new Move(relay, k, solution);
+            }
+        }
+        return best;
+    }
+
+    public Result optimize() {
+        int[] choice = new int[numRelays];
+        Solution best = solve(choice);
+
+        int passes = 0;
+        while (passes < MAX_PASSES) {
+            passes++;
+            int[] current = choice;
+            Solution base = best;
+            List<Move> moves = IntStream.range(0, numRelays)
+                    .parallel()
+                    .filter(r -> candidates[r].length > 1)
+                    .mapToObj(r -> bestMove(current, base, r))
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (moves.isEmpty()) {
+                break;
+            }
+
+            // Take every improving move at once if that helps, otherwise only the single best one
+            int[] combined = choice.clone();
+            Move single = moves.get(0);
+            for (Move move : moves) {
+                combined[move.relay] = move.candidate;
+                if (move.solution.isBetterThan(single.solution)) {
+                    single = move;
+                }
+            }
+            Solution combinedSolution = moves.size() > 1 ? solve(combined) : single.solution;
+            if (combinedSolution.isBetterThan(single.solution) || moves.size() == 1) {
+                choice = combined;
+                best = combinedSolution;
+            } else {
+                choice = choice.clone();
+                choice[single.relay] = single.candidate;
+                best = single.solution;
+            }
+        }
+
+        double[] pickups = new double[numRelays];
+        for (int r = 0; r < numRelays; r++) {
+            pickups[r] = candidates[r][choice[r]];
+        }
+        return new Result(best.tms, pickups, best.objective, best.violations, passes);
+    }
+
+    public static void main(String[] args) {
+        int numRelays = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+
+        // Synthetic radial network: relay i is backed up by the relay feeding its bus
+        Random random = new Random(7);
+        RelaySettings relays = new RelaySettings();
+        FaultCases faults = new FaultCases();
+        List<RelayPair> pairs = new ArrayList<>();
+        int[] depth = new int[numRelays];
+        double[][] pickupCandidates = new double[numRelays][];
+        for (int r = 0; r < numRelays; r++) {
+            relays.add("R" + (r + 1), 1.5, 0.1, RelayCurve.VERY_INVERSE);
+            pickupCandidates[r] = new double[]{1.0, 1.25, 1.5, 1.75, 2.0};
+            if (r > 0) {
+                int backup = (r - 1) / 3;
+                depth[r] = depth[backup] + 1;
+                double nearEnd = 30.0 / (1.0 + 0.5 * depth[r]) * (0.9 + 0.2 * random.nextDouble());
+                int near = faults.add("F" + (r + 1) + "_near", nearEnd);
+                int far = faults.add("F" + (r + 1) + "_far", 0.6 * nearEnd);
+                pairs.add(new RelayPair(r, backup, near, far));
+            }
+        }
+
+        long start = System.nanoTime();
+        CoordinationOptimizer optimizer = new CoordinationOptimizer(relays, faults, pairs, pickupCandidates);
+        Result result = optimizer.optimize();
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("Optimized %d relays, %d pairs in %.1f ms (%d passes)%n",
+                numRelays, pairs.size(), elapsed / 1e6, result.getPasses());
+        System.out.printf("Total primary operating time: %.3f s%n", result.getTotalPrimaryTime());
+        System.out.println("Coordination violations: " + result.getViolations());
+        for (int r = 0; r < Math.min(5, numRelays); r++) {
+            System.out.printf("%s: pickup %.2f pu, TMS %.3f%n", relays.getRelayId(r),
+                    result.getPickupCurrentPu(r), result.getTms(r));
+        }
+    }
+}
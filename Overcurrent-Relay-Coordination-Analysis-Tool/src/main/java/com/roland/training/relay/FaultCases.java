@@ -0,0 +1,50 @@
+package com.roland.training.relay;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fault cases of a protection study, each a fault current in pu addressed by a dense index.
+ */
+public class FaultCases {
+
+    private final Map<String, Integer> indexById = new HashMap<>();
+    private String[] faultIds = new String[16];
+    private double[] faultCurrentPu = new double[16];
+    private int size;
+
+    public int add(String faultId, double faultCurrentPu) {
+        if (indexById.containsKey(faultId)) {
+            throw new IllegalArgumentException("Duplicate fault ID: " + faultId);
+        }
+        if (size == faultIds.length) {
+            int capacity = size * 2;
+            faultIds = Arrays.copyOf(faultIds, capacity);
+            this.faultCurrentPu = Arrays.copyOf(this.faultCurrentPu, capacity);
+        }
+        int index = size++;
+        faultIds[index] = faultId;
+        this.faultCurrentPu[index] = faultCurrentPu;
+        indexById.put(faultId, index);
+        return index;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Returns -1 if the fault is unknown
+    public int indexOf(String faultId) {
+        Integer index = indexById.get(faultId);
+        return index != null ? index : -1;
+    }
+
+    public String getFaultId(int index) {
+        return faultIds[index];
+    }
+
+    public double getFaultCurrentPu(int index) {
+        return faultCurrentPu[index];
+    }
+}
@@ -0,0 +1,271 @@
+package com.roland.training.relay;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import com.roland.training.metrics.TripTimeEvent;
+import com.roland.training.metrics.TripTimeMetrics;
+
+/**
+ * Keeps the coordination status of every primary/backup pair up to date while settings are tuned.
+ * Each relay caches its trip times only for the faults checked by the pairs it belongs to, so memory
+ * is proportional to the pair/fault incidences rather than relays x faults. Changing one relay's TMS,
+ * pickup or curve recomputes those times and rechecks those pairs, so the cost of an edit is
+ * proportional to the relay's neighbourhood instead of pairs x faults.
+ *
+ * Edits are not thread-safe; the initial and full rechecks run in parallel.
+ */
+public class IncrementalCoordinator {
+
+    private static final TripTimeMetrics METRICS = TripTimeMetrics.forSource("incremental-coordinator");
+
+    private final RelaySettings relays;
+    private final FaultCases faults;
+    private final List<RelayPair> pairs;
+    private final int[][] pairsByRelay; // Pairs in which each relay is primary or backup
+
+    // Sparse trip-time cache: per relay, the sorted faults its pairs check and the times at them
+    private final int[][] relayFaults;
+    private final double[][] relayTimes;
+    // Per pair, aligned with getFaultIndices(): slots of each fault in the primary's and backup's rows
+    private final int[][] primarySlots;
+    private final int[][] backupSlots;
+
+    private final double[] pairMinCti;
+    private final int[] pairWorstFault; // -1 if the pair has no fault the primary operates for
+    private final boolean[] pairCoordinated;
+    private int violationCount;
+
+    private double minCti = 0.2;
+    private double maxCti = 0.5;
+
+    public IncrementalCoordinator(RelaySettings relays, FaultCases faults, List<RelayPair> pairs) {
+        this.relays = relays;
+        this.faults = faults;
+        this.pairs = pairs;
+
+        List<List<Integer>> byRelay = new ArrayList<>();
+        for (int r = 0; r < relays.size(); r++) {
+            byRelay.add(new ArrayList<>());
+        }
+        for (int i = 0; i < pairs.size(); i++) {
+            byRelay.get(pairs.get(i).getPrimaryIndex()).add(i);
+            byRelay.get(pairs.get(i).getBackupIndex()).add(i);
+        }
+        pairsByRelay = new int[relays.size()][];
+        relayFaults = new int[relays.size()][];
+        relayTimes = new double[relays.size()][];
+        for (int r = 0; r < relays.size(); r++) {
+            pairsByRelay[r] = byRelay.get(r).stream().mapToInt(Integer::intValue).toArray();
+            relayFaults[r] = Arrays.stream(pairsByRelay[r])
+                    .flatMap(pair -> Arrays.stream(pairs.get(pair).getFaultIndices()))
+                    .sorted().distinct().toArray();
+            relayTimes[r] = new double[relayFaults[r].length];
+        }
+
+        primarySlots = new int[pairs.size()][];
+        backupSlots = new int[pairs.size()][];
+        for (int i = 0; i < pairs.size(); i++) {
+            RelayPair pair = pairs.get(i);
+            primarySlots[i] = slots(pair.getPrimaryIndex(), pair.getFaultIndices());
+            backupSlots[i] = slots(pair.getBackupIndex(), pair.getFaultIndices());
+        }
+
+        TripTimeEvent event = new TripTimeEvent();
+        event.begin();
+        IntStream.range(0, relays.size()).parallel().forEach(this::fillRelay);
+        METRICS.record(event, Arrays.stream(relayFaults).mapToLong(row -> row.length).sum());
+
+        pairMinCti = new double[pairs.size()];
+        pairWorstFault = new int[pairs.size()];
+        pairCoordinated = new boolean[pairs.size()];
+        recheckAll();
+    }
+
+    public void setCtiBounds(double minCti, double maxCti) {
+        if (!(minCti >= 0 && maxCti >= minCti && Double.isFinite(maxCti))) {
+            throw new IllegalArgumentException("Invalid CTI bounds: " + minCti + ", " + maxCti);
+        }
+        this.minCti = minCti;
+        this.maxCti = maxCti;
+        recheckAll();
+    }
+
+    public void recheckAll() {
+        IntStream.range(0, pairs.size()).parallel().forEach(this::checkPair);
+        int count = 0;
+        for (boolean coordinated : pairCoordinated) {
+            if (!coordinated) {
+                count++;
+            }
+        }
+        violationCount = count;
+    }
+
+    /**
+     * Applies new settings to one relay and rechecks only the pairs it belongs to.
+     *
+     * @return the number of pairs rechecked
+     */
+    public int updateRelay(String relayId, double pickupCurrentPu, double tms, RelayCurve curve) {
+        int relay = relays.indexOf(relayId);
+        if (relay < 0) {
+            throw new IllegalArgumentException("Unknown relay: " + relayId);
+        }
+        relays.setPickupCurrentPu(relay, pickupCurrentPu);
+        relays.setTms(relay, tms);
+        relays.setCurve(relay, curve);
+        fillRelay(relay);
+        METRICS.add(relayFaults[relay].length);
+
+        for (int pair : pairsByRelay[relay]) {
+            boolean wasCoordinated = pairCoordinated[pair];
+            checkPair(pair);
+            if (wasCoordinated != pairCoordinated[pair]) {
+                violationCount += wasCoordinated ? 1 : -1;
+            }
+        }
+        return pairsByRelay[relay].length;
+    }
+
+    private int[] slots(int relay, int[] faultIndices) {
+        int[] slots = new int[faultIndices.length];
+        for (int k = 0; k < faultIndices.length; k++) {
+            slots[k] = Arrays.binarySearch(relayFaults[relay], faultIndices[k]);
+        }
+        return slots;
+    }
+
+    private void fillRelay(int relay) {
+        int[] faultIndices = relayFaults[relay];
+        double[] times = relayTimes[relay];
+        for (int k = 0; k < faultIndices.length; k++) {
+            times[k] = relays.tripTime(relay, faults.getFaultCurrentPu(faultIndices[k]));
+        }
+    }
+
+    private void checkPair(int index) {
+        RelayPair pair = pairs.get(index);
+        int[] faultIndices = pair.getFaultIndices();
+        double[] primaryTimes = relayTimes[pair.getPrimaryIndex()];
+        double[] backupTimes = relayTimes[pair.getBackupIndex()];
+        int[] primarySlot = primarySlots[index];
+        int[] backupSlot = backupSlots[index];
+
+        double worstCti = Double.POSITIVE_INFINITY;
+        int worstFault = -1;
+        boolean coordinated = true;
+        for (int k = 0; k < faultIndices.length; k++) {
+            int fault = faultIndices[k];
+            double primaryTime = primaryTimes[primarySlot[k]];
+            if (Double.isInfinite(primaryTime)) {
+                continue; // Primary does not operate for this fault
+            }
+            double cti = backupTimes[backupSlot[k]] - primaryTime;
+            if (!(cti >= minCti && cti <= maxCti)) {
+                coordinated = false;
+            }
+            if (worstFault < 0 || cti < worstCti) {
+                worstCti = cti;
+                worstFault = fault;
+            }
+        }
+        pairMinCti[index] = worstCti;
+        pairWorstFault[index] = worstFault;
+        pairCoordinated[index] = coordinated;
+    }
+
+    public List<RelayPair> getPairs() {
+        return pairs;
+    }
+
+    public int getViolationCount() {
+        return violationCount;
+    }
+
+    public boolean isCoordinated(int pair) {
+        return pairCoordinated[pair];
+    }
+
+    public double getMinCti(int pair) {
+        return pairMinCti[pair];
+    }
+
+    public int getWorstFaultIndex(int pair) {
+        return pairWorstFault[pair];
+    }
+
+    // Cached when one of the relay's pairs checks the fault, computed on demand otherwise
+    public double tripTime(int relay, int fault) {
+        int slot = Arrays.binarySearch(relayFaults[relay], fault);
+        return slot >= 0 ? relayTimes[relay][slot] : relays.tripTime(relay, faults.getFaultCurrentPu(fault));
+    }
+
+    private void printPairs() {
+        for (int i = 0; i < pairs.size(); i++) {
+            RelayPair pair = pairs.get(i);
+            int worstFault = pairWorstFault[i];
+            System.out.printf("  %s backed up by %s: minimum CTI %.3f s at %s (%s)%n",
+                    relays.getRelayId(pair.getPrimaryIndex()), relays.getRelayId(pair.getBackupIndex()),
+                    pairMinCti[i], worstFault >= 0 ? faults.getFaultId(worstFault) : "-",
+                    pairCoordinated[i] ? "acceptable" : "might need adjustment");
+        }
+    }
+
+    public static void main(String[] args) {
+        // The relays and faults from OvercurrentRelayAnalysis on a radial feeder Source - B1 - B2 - B3
+        RelaySettings relays = new RelaySettings();
+        relays.add("R1", 1.5, 0.1, RelayCurve.INVERSE);
+        relays.add("R2", 1.2, 0.2, RelayCurve.VERY_INVERSE);
+        relays.add("R3", 1.0, 0.3, RelayCurve.INVERSE);
+        FaultCases faults = new FaultCases();
+        faults.add("Fault_A", 5.0);
+        faults.add("Fault_B", 3.5);
+        faults.add("Fault_C", 2.0);
+
+        ProtectionTopology topology = new ProtectionTopology();
+        topology.addRelay(relays.indexOf("R3"), "Source", "B1");
+        topology.addRelay(relays.indexOf("R2"), "B1", "B2");
+        topology.addRelay(relays.indexOf("R1"), "B2", "B3");
+        topology.addFault(faults.indexOf("Fault_C"), "B1");
+        topology.addFault(faults.indexOf("Fault_B"), "B2");
+        topology.addFault(faults.indexOf("Fault_A"), "B3");
+
+        IncrementalCoordinator coordinator = new IncrementalCoordinator(relays, faults, topology.derivePairs());
+        System.out.println("Coordination (" + coordinator.getViolationCount() + " pairs need adjustment):");
+        coordinator.printPairs();
+
+        int rechecked = coordinator.updateRelay("R3", 1.0, 0.6, RelayCurve.VERY_INVERSE);
+        System.out.println("\nAfter changing R3 to Very Inverse, TMS 0.6 (" + rechecked + " pairs rechecked, "
+                + coordinator.getViolationCount() + " need adjustment):");
+        coordinator.printPairs();
+
+        // Edit latency on a synthetic radial network
+        int numRelays = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        Random random = new Random(11);
+        RelaySettings study = new RelaySettings();
+        FaultCases studyFaults = new FaultCases();
+        ProtectionTopology studyTopology = new ProtectionTopology();
+        for (int r = 0; r < numRelays; r++) {
+            int relay = study.add("R" + r, 1.0 + random.nextDouble(), 0.05 + 0.5 * random.nextDouble(), RelayCurve.VERY_INVERSE);
+            String from = r == 0 ? "Source" : "B" + (r - 1) / 3;
+            studyTopology.addRelay(relay, from, "B" + r);
+            studyTopology.addFault(studyFaults.add("F" + r, 2.0 + 20.0 * random.nextDouble()), "B" + r);
+        }
+        long start = System.nanoTime();
+        IncrementalCoordinator studyCoordinator = new IncrementalCoordinator(study, studyFaults, studyTopology.derivePairs());
+        long full = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int edit = 0; edit < 1000; edit++) {
+            int relay = random.nextInt(numRelays);
+            studyCoordinator.updateRelay(study.getRelayId(relay), study.getPickupCurrentPu(relay),
+                    0.05 + 0.5 * random.nextDouble(), study.getCurve(relay));
+        }
+        long edits = System.nanoTime() - start;
+        System.out.printf("%nSynthetic network: %d relays, %d pairs. Full check %.1f ms, %.1f us per edit%n",
+                numRelays, studyCoordinator.getPairs().size(), full / 1e6, edits / 1e3 / 1000);
+    }
+}
@@ -0,0 +1,69 @@
+package com.roland.training.relay;
+
+import org.jfree.chart.ChartPanel;
+import org.jfree.ui.ApplicationFrame;
+import org.jfree.ui.RefineryUtilities;
+
+/**
+ * Swing front end: runs {@link OvercurrentRelayEngine} and shows the TC curves. Use the batch runner on headless machines.
+ */
+public class OvercurrentRelayAnalysis extends ApplicationFrame {
+
+    private final OvercurrentRelayResult result;
+
+    public OvercurrentRelayAnalysis(String title) {
+        super(title);
+        result = OvercurrentRelayEngine.example().calculateTrippingTimes();
+        printTrippingTimes();
+        createTCPlot();
+        analyzeCoordination("R1", "R2", "Fault_A"); // Example coordination analysis
+        this.pack();
+        RefineryUtilities.centerFrameOnScreen(this);
+        this.setVisible(true);
+    }
+
+    public static double calculateTrippingTime(double faultCurrentPu, double pickupCurrentPu, double tms, String characteristicType) {
+        return OvercurrentRelayEngine.calculateTrippingTime(faultCurrentPu, pickupCurrentPu, tms, characteristicType);
+    }
+
+    private void printTrippingTimes() {
+        System.out.println("Tripping Times (seconds):");
+        result.getTrippingTimes().forEach((relayId, times) -> {
+            System.out.println(relayId + ": " + times);
+        });
+    }
+
+    private void createTCPlot() {
+        ChartPanel chartPanel = new ChartPanel(OvercurrentRelayCharts.createTCPlot(result));
+        chartPanel.setPreferredSize(new java.awt.Dimension(500, 300));
+        this.add(chartPanel);
+    }
+
+    private void analyzeCoordination(String relayPrimaryId, String relayBackupId, String faultLocation) {
+        System.out.println("\nCoordination Analysis (comparing " + relayPrimaryId + " and " + relayBackupId + " for " + faultLocation + "):");
+
+        if (result.hasTrippingTime(relayPrimaryId, faultLocation) && result.hasTrippingTime(relayBackupId, faultLocation)) {
+
+            double primaryTripTime = result.getTrippingTime(relayPrimaryId, faultLocation);
+            double backupTripTime = result.getTrippingTime(relayBackupId, faultLocation);
+            double coordinationTimeInterval = backupTripTime - primaryTripTime;
+
+            System.out.printf("Tripping time of %s for %s: %.3f s%n", relayPrimaryId, faultLocation, primaryTripTime);
+            System.out.printf("Tripping time of %s for %s: %.3f s%n", relayBackupId, faultLocation, backupTripTime);
+            System.out.printf("Coordination Time Interval: %.3f s%n", coordinationTimeInterval);
+
+            if (OvercurrentRelayResult.isCoordinationAcceptable(coordinationTimeInterval)) {
+                System.out.println("Coordination between " + relayPrimaryId + " and " + relayBackupId + " for " + faultLocation + " is likely acceptable.");
+            } else {
+                System.out.println("Coordination between " + relayPrimaryId + " and " + relayBackupId + " for " + faultLocation + " might need adjustment.");
+            }
+
+        } else {
+            System.out.println("Could not perform coordination analysis due to missing data.");
+        }
+    }
+
+    public static void main(String[] args) {
+        OvercurrentRelayAnalysis analysis = new OvercurrentRelayAnalysis("Overcurrent Relay Analysis");
+    }
+}
\ No newline at end of file
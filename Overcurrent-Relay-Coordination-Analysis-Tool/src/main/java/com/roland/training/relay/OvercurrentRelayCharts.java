@@ -0,0 +1,54 @@
+package com.roland.training.relay;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.LogAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Builds the log-log time-current characteristic chart from an {@link OvercurrentRelayResult}.
+ */
+public final class OvercurrentRelayCharts {
+
+    private OvercurrentRelayCharts() {
+    }
+
+    public static JFreeChart createTCPlot(OvercurrentRelayResult result) {
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        String[] relayIds = result.getRelayIds();
+        for (int r = 0; r < relayIds.length; r++) {
+            XYSeries series = new XYSeries(relayIds[r] + " (" + result.getCharacteristicType(r) + ")");
+            double[] multiples = result.getCurveMultiples(r);
+            double[] times = result.getCurveTimes(r);
+            for (int i = 0; i < multiples.length; i++) {
+                series.add(multiples[i], times[i]);
+            }
+            dataset.addSeries(series);
+        }
+
+        JFreeChart chart = ChartFactory.createXYLineChart(
+                "Overcurrent Relay Time-Current Characteristics",
+                "Fault Current (pu of Pickup)",
+                "Tripping Time (seconds)",
+                dataset,
+                PlotOrientation.VERTICAL,
+                true,
+                true,
+                false
+        );
+
+        // Set the domain axis (x-axis) to be logarithmic
+        XYPlot plot = (XYPlot) chart.getPlot();
+        LogAxis xAxis = new LogAxis("Fault Current (pu of Pickup)");
+        plot.setDomainAxis(xAxis);
+
+        // Optionally, set the range axis (y-axis) to be logarithmic as well
+        LogAxis yAxis = new LogAxis("Tripping Time (seconds)");
+        plot.setRangeAxis(yAxis);
+
+        return chart;
+    }
+}
@@ -0,0 +1,109 @@
+package com.roland.training.relay;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.roland.training.metrics.TripTimeEvent;
+import com.roland.training.metrics.TripTimeMetrics;
+
+/**
+ * Tripping-time study for a handful of named relays and fault currents, independent of any GUI.
+ */
+public class OvercurrentRelayEngine {
+
+    private static final TripTimeMetrics METRICS = TripTimeMetrics.forSource("relay-analysis");
+
+    private final List<String> relayIds = new ArrayList<>();
+    private final List<Double> pickupCurrentPu = new ArrayList<>();
+    private final List<Double> tms = new ArrayList<>();
+    private final List<String> characteristicType = new ArrayList<>();
+    private final Map<String, Double> faultCurrents = new LinkedHashMap<>();
+
+    /**
+     * The three-relay, three-fault example used by {@link OvercurrentRelayAnalysis}.
+     */
+    public static OvercurrentRelayEngine example() {
+        OvercurrentRelayEngine engine = new OvercurrentRelayEngine();
+        engine.addRelay("R1", 1.5, 0.1, "Inverse");
+        engine.addRelay("R2", 1.2, 0.2, "Very Inverse");
+        engine.addRelay("R3", 1.0, 0.3, "Inverse");
+        engine.addFaultCurrent("Fault_A", 5.0);
+        engine.addFaultCurrent("Fault_B", 3.5);
+        engine.addFaultCurrent("Fault_C", 2.0);
+        return engine;
+    }
+
+    public void addRelay(String relayId, double pickupCurrentPu, double tms, String characteristicType) {
+        if (relayIds.contains(relayId)) {
+            throw new IllegalArgumentException("Duplicate relay id: " + relayId);
+        }
+        this.relayIds.add(relayId);
+        this.pickupCurrentPu.add(pickupCurrentPu);
+        this.tms.add(tms);
+        this.characteristicType.add(characteristicType);
+    }
+
+    public void addFaultCurrent(String faultId, double faultCurrentPu) {
+        faultCurrents.put(faultId, faultCurrentPu);
+    }
+
+    public static double calculateTrippingTime(double faultCurrentPu, double pickupCurrentPu, double tms, String characteristicType) {
+        METRICS.add(1);
+        return evaluate(faultCurrentPu, pickupCurrentPu, tms, characteristicType);
+    }
+
+    // Uncounted; callers report their evaluations in bulk
+    private static double evaluate(double faultCurrentPu, double pickupCurrentPu, double tms, String characteristicType) {
+        RelayCurve curve = RelayCurve.fromLabel(characteristicType);
+        if (curve == null) {
+            return Double.NaN; // Unknown characteristic
+        }
+        return curve.tripTime(faultCurrentPu, pickupCurrentPu, tms);
+    }
+
+    public OvercurrentRelayResult calculateTrippingTimes() {
+        TripTimeEvent event = new TripTimeEvent();
+        event.begin();
+        long[] evaluations = new long[1];
+        int n = relayIds.size();
+        Map<String, Map<String, Double>> trippingTimes = new LinkedHashMap<>();
+        double[][][] tcCurves = new double[n][][];
+        for (int r = 0; r < n; r++) {
+            Map<String, Double> times = new LinkedHashMap<>();
+            for (Map.Entry<String, Double> faultEntry : faultCurrents.entrySet()) {
+                double tripTime = evaluate(faultEntry.getValue(), pickupCurrentPu.get(r), tms.get(r), characteristicType.get(r));
+                times.put(faultEntry.getKey(), tripTime);
+            }
+            trippingTimes.put(relayIds.get(r), times);
+            evaluations[0] += faultCurrents.size();
+            tcCurves[r] = generateTCcurve(pickupCurrentPu.get(r), tms.get(r), characteristicType.get(r), evaluations);
+        }
+        METRICS.record(event, evaluations[0]);
+        return new OvercurrentRelayResult(relayIds.toArray(new String[0]), characteristicType.toArray(new String[0]),
+                new ArrayList<>(faultCurrents.keySet()), trippingTimes, tcCurves);
+    }
+
+    // Returns {multiples of pickup, tripping times (s)}; adds the number of evaluations to evaluations[0]
+    private static double[][] generateTCcurve(double pickupCurrentPu, double tms, String characteristicType, long[] evaluations) {
+        double[] multiples = new double[181];
+        double[] times = new double[181];
+        int size = 0;
+        for (double currentPu = 1.1 * pickupCurrentPu; currentPu <= 10 * pickupCurrentPu; currentPu += 0.05 * pickupCurrentPu) {
+            double time = evaluate(currentPu, pickupCurrentPu, tms, characteristicType);
+            evaluations[0]++;
+            if (!Double.isInfinite(time) && !Double.isNaN(time) && time < 100) { // Limit for plotting
+                if (size == multiples.length) {
+                    multiples = Arrays.copyOf(multiples, size * 2);
+                    times = Arrays.copyOf(times, size * 2);
+                }
+                multiples[size] = currentPu / pickupCurrentPu; // Plotting against multiple of pickup
+                times[size] = time;
+                size++;
+            }
+        }
+        return new double[][]{Arrays.copyOf(multiples, size), Arrays.copyOf(times, size)};
+    }
+}
@@ -0,0 +1,76 @@
+package com.roland.training.relay;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tripping times and time-current curves produced by {@link OvercurrentRelayEngine}.
+ */
+public class OvercurrentRelayResult {
+
+    private final String[] relayIds;
+    private final String[] characteristicTypes;
+    private final List<String> faultIds;
+    private final Map<String, Map<String, Double>> trippingTimes;
+    private final double[][][] tcCurves;
+
+    public OvercurrentRelayResult(String[] relayIds, String[] characteristicTypes, List<String> faultIds,
+                                  Map<String, Map<String, Double>> trippingTimes, double[][][] tcCurves) {
+        this.relayIds = relayIds;
+        this.characteristicTypes = characteristicTypes;
+        this.faultIds = faultIds;
+        this.trippingTimes = trippingTimes;
+        this.tcCurves = tcCurves;
+    }
+
+    public String[] getRelayIds() {
+        return relayIds;
+    }
+
+    public String getCharacteristicType(int relay) {
+        return characteristicTypes[relay];
+    }
+
+    public List<String> getFaultIds() {
+        return faultIds;
+    }
+
+    // relay id -> fault id -> tripping time (s)
+    public Map<String, Map<String, Double>> getTrippingTimes() {
+        return trippingTimes;
+    }
+
+    // NaN if either id is unknown
+    public double getTrippingTime(String relayId, String faultId) {
+        Map<String, Double> times = trippingTimes.get(relayId);
+        if (times == null || !times.containsKey(faultId)) {
+            return Double.NaN;
+        }
+        return times.get(faultId);
+    }
+
+    public boolean hasTrippingTime(String relayId, String faultId) {
+        return trippingTimes.containsKey(relayId) && trippingTimes.get(relayId).containsKey(faultId);
+    }
+
+    /**
+     * Backup minus primary tripping time for the given fault, NaN if any of the data is missing.
+     */
+    public double getCoordinationTimeInterval(String relayPrimaryId, String relayBackupId, String faultLocation) {
+        return getTrippingTime(relayBackupId, faultLocation) - getTrippingTime(relayPrimaryId, faultLocation);
+    }
+
+    // CTI window the example analysis treats as acceptable
+    public static boolean isCoordinationAcceptable(double coordinationTimeInterval) {
+        return coordinationTimeInterval > 0.2 && coordinationTimeInterval < 0.5;
+    }
+
+    // Multiples of pickup for the relay's TC curve
+    public double[] getCurveMultiples(int relay) {
+        return tcCurves[relay][0];
+    }
+
+    public double[] getCurveTimes(int relay) {
+        return tcCurves[relay][1];
+    }
+}
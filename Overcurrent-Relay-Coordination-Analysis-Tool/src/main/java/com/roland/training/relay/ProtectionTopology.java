@@ -0,0 +1,70 @@
+package com.roland.training.relay;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Feeder topology for working out which relay backs up which. Each relay sits at the sending end of
+ * a directed branch and protects that branch; faults are located at buses.
+ *
+ * The relay on branch u -> v is backed up by every relay on a branch w -> u feeding its sending bus,
+ * except the one on the reverse branch v -> u. This gives the usual upstream backups on a radial
+ * feeder and the directional backups of a meshed network. A pair is checked at the faults located
+ * at the primary relay's far bus.
+ */
+public class ProtectionTopology {
+
+    private final Map<String, Integer> busIndex = new HashMap<>();
+    private final List<int[]> relayBranches = new ArrayList<>(); // relay index, from bus, to bus
+    private final List<int[]> faultLocations = new ArrayList<>(); // fault index, bus
+
+    private int bus(String name) {
+        return busIndex.computeIfAbsent(name, key -> busIndex.size());
+    }
+
+    public void addRelay(int relayIndex, String fromBus, String toBus) {
+        if (fromBus.equals(toBus)) {
+            throw new IllegalArgumentException("Relay " + relayIndex + " must protect a branch between two buses.");
+        }
+        relayBranches.add(new int[]{relayIndex, bus(fromBus), bus(toBus)});
+    }
+
+    public void addFault(int faultIndex, String busName) {
+        faultLocations.add(new int[]{faultIndex, bus(busName)});
+    }
+
+    public int getNumBuses() {
+        return busIndex.size();
+    }
+
+    public List<RelayPair> derivePairs() {
+        int numBuses = busIndex.size();
+        List<List<int[]>> incoming = new ArrayList<>(); // Branches ending at each bus
+        List<List<Integer>> faultsAtBus = new ArrayList<>();
+        for (int b = 0; b < numBuses; b++) {
+            incoming.add(new ArrayList<>());
+            faultsAtBus.add(new ArrayList<>());
+        }
+        for (int[] branch : relayBranches) {
+            incoming.get(branch[2]).add(branch);
+        }
+        for (int[] location : faultLocations) {
+            faultsAtBus.get(location[1]).add(location[0]);
+        }
+
+        List<RelayPair> pairs = new ArrayList<>();
+        for (int[] primary : relayBranches) {
+            int from = primary[1];
+            int to = primary[2];
+            int[] faults = faultsAtBus.get(to).stream().mapToInt(Integer::intValue).toArray();
+            for (int[] backup : incoming.get(from)) {
+                if (backup[1] != to && backup[0] != primary[0]) {
+                    pairs.add(new RelayPair(primary[0], backup[0], faults));
+                }
+            }
+        }
+        return pairs;
+    }
+}
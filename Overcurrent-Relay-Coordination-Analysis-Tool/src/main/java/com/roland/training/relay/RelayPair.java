@@ -0,0 +1,33 @@
+package com.roland.training.relay;
+
+/**
+ * A primary/backup relay pair and the fault cases (indices into {@link FaultCases}) at which the
+ * backup must operate a coordination time interval after the primary.
+ */
+public class RelayPair {
+
+    private final int primaryIndex;
+    private final int backupIndex;
+    private final int[] faultIndices;
+
+    public RelayPair(int primaryIndex, int backupIndex, int... faultIndices) {
+        if (primaryIndex == backupIndex) {
+            throw new IllegalArgumentException("A relay cannot back itself up: " + primaryIndex);
+        }
+        this.primaryIndex = primaryIndex;
+        this.backupIndex = backupIndex;
+        this.faultIndices = faultIndices;
+    }
+
+    public int getPrimaryIndex() {
+        return primaryIndex;
+    }
+
+    public int getBackupIndex() {
+        return backupIndex;
+    }
+
+    public int[] getFaultIndices() {
+        return faultIndices;
+    }
+}
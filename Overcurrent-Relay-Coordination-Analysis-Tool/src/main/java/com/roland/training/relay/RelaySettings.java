@@ -0,0 +1,89 @@
+package com.roland.training.relay;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Columnar store of relay settings for large protection studies. Relays are addressed by a dense
+ * index assigned in insertion order; the ID map is only needed at the edges of a study.
+ */
+public class RelaySettings {
+
+    private final Map<String, Integer> indexById = new HashMap<>();
+    private String[] relayIds = new String[16];
+    private double[] pickupCurrentPu = new double[16];
+    private double[] tms = new double[16];
+    private RelayCurve[] curves = new RelayCurve[16];
+    private int size;
+
+    public int add(String relayId, double pickupCurrentPu, double tms, RelayCurve curve) {
+        requireCurve(relayId, curve);
+        if (indexById.containsKey(relayId)) {
+            throw new IllegalArgumentException("Duplicate relay ID: " + relayId);
+        }
+        if (size == relayIds.length) {
+            int capacity = size * 2;
+            relayIds = Arrays.copyOf(relayIds, capacity);
+            this.pickupCurrentPu = Arrays.copyOf(this.pickupCurrentPu, capacity);
+            this.tms = Arrays.copyOf(this.tms, capacity);
+            curves = Arrays.copyOf(curves, capacity);
+        }
+        int index = size++;
+        relayIds[index] = relayId;
+        this.pickupCurrentPu[index] = pickupCurrentPu;
+        this.tms[index] = tms;
+        curves[index] = curve;
+        indexById.put(relayId, index);
+        return index;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Returns -1 if the relay is unknown
+    public int indexOf(String relayId) {
+        Integer index = indexById.get(relayId);
+        return index != null ? index : -1;
+    }
+
+    public String getRelayId(int index) {
+        return relayIds[index];
+    }
+
+    public double getPickupCurrentPu(int index) {
+        return pickupCurrentPu[index];
+    }
+
+    public double getTms(int index) {
+        return tms[index];
+    }
+
+    public RelayCurve getCurve(int index) {
+        return curves[index];
+    }
+
+    public void setPickupCurrentPu(int index, double value) {
+        pickupCurrentPu[index] = value;
+    }
+
+    public void setTms(int index, double value) {
+        tms[index] = value;
+    }
+
+    public void setCurve(int index, RelayCurve curve) {
+        requireCurve(relayIds[index], curve);
+        curves[index] = curve;
+    }
+
+    private static void requireCurve(String relayId, RelayCurve curve) {
+        if (curve == null) {
+            throw new IllegalArgumentException("Missing or unknown curve for relay " + relayId);
+        }
+    }
+
+    public double tripTime(int index, double faultCurrentPu) {
+        return curves[index].tripTime(faultCurrentPu, pickupCurrentPu[index], tms[index]);
+    }
+}
@@ -0,0 +1,152 @@
+package com.roland.training.relay;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import com.roland.training.metrics.TripTimeEvent;
+import com.roland.training.metrics.TripTimeMetrics;
+
+/**
+ * Dense relay x fault tripping-time matrix. Times are stored relay-major in a single
+ * {@code double[]}, so each relay row is a contiguous branch-light loop over the fault currents
+ * with the curve constants hoisted out; rows are computed in parallel.
+ */
+public class TripTimeMatrix {
+
+    private static final TripTimeMetrics METRICS = TripTimeMetrics.forSource("trip-time-matrix");
+
+    private final RelaySettings relays;
+    private final FaultCases faults;
+    private final int numRelays;
+    private final int numFaults;
+    private final double[] faultCurrents;
+    private final double[] logFaultCurrents; // Lets the Inverse curve use expm1 instead of pow
+    private final double[] times;
+
+    public TripTimeMatrix(RelaySettings relays, FaultCases faults) {
+        this.relays = relays;
+        this.faults = faults;
+        this.numRelays = relays.size();
+        this.numFaults = faults.size();
+        if ((long) numRelays * numFaults > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Study too large for a dense matrix: "
+                    + numRelays + " relays x " + numFaults + " faults.");
+        }
+
+        faultCurrents = new double[numFaults];
+        logFaultCurrents = new double[numFaults];
+        for (int f = 0; f < numFaults; f++) {
+            faultCurrents[f] = faults.getFaultCurrentPu(f);
+            logFaultCurrents[f] = Math.log(faultCurrents[f]);
+        }
+        times = new double[numRelays * numFaults];
+        computeAll();
+    }
+
+    public void computeAll() {
+        TripTimeEvent event = new TripTimeEvent();
+        event.begin();
+        IntStream.range(0, numRelays).parallel().forEach(this::fillRow);
+        METRICS.record(event, (long) numRelays * numFaults);
+    }
+
+    // Recomputes one relay row, e.g. after its settings have changed
+    public void computeRelay(int relay) {
+        fillRow(relay);
+        METRICS.add(numFaults);
+    }
+
+    private void fillRow(int relay) {
+        RelayCurve curve = relays.getCurve(relay);
+        double pickup = relays.getPickupCurrentPu(relay);
+        double scale = relays.getTms(relay) * curve.getK();
+        double invPickup = 1.0 / pickup;
+        int base = relay * numFaults;
+
+        switch (curve) {
+            case VERY_INVERSE:
+                for (int f = 0; f < numFaults; f++) {
+                    double ratio = faultCurrents[f] * invPickup;
+                    times[base + f] = ratio > 1 ? scale / (ratio - 1) : Double.POSITIVE_INFINITY;
+                }
+                break;
+            case EXTREMELY_INVERSE:
+                for (int f = 0; f < numFaults; f++) {
+                    double ratio = faultCurrents[f] * invPickup;
+                    times[base + f] = ratio > 1 ? scale / ((ratio - 1) * (ratio + 1)) : Double.POSITIVE_INFINITY;
+                }
+                break;
+            default:
+                double n = curve.getN();
+                double logPickup = Math.log(pickup);
+                for (int f = 0; f < numFaults; f++) {
+                    double logRatio = logFaultCurrents[f] - logPickup;
+                    times[base + f] = logRatio > 0 ? scale / Math.expm1(n * logRatio) : Double.POSITIVE_INFINITY;
+                }
+                break;
+        }
+    }
+
+    public int getNumRelays() {
+        return numRelays;
+    }
+
+    public int getNumFaults() {
+        return numFaults;
+    }
+
+    public RelaySettings getRelays() {
+        return relays;
+    }
+
+    public FaultCases getFaults() {
+        return faults;
+    }
+
+    public double tripTime(int relay, int fault) {
+        return times[relay * numFaults + fault];
+    }
+
+    public double tripTime(String relayId, String faultId) {
+        int relay = relays.indexOf(relayId);
+        int fault = faults.indexOf(faultId);
+        if (relay < 0 || fault < 0) {
+            throw new IllegalArgumentException("Unknown relay or fault: " + relayId + ", " + faultId);
+        }
+        return tripTime(relay, fault);
+    }
+
+    // Offset of a relay's row in the backing array returned by getTimes()
+    public int rowOffset(int relay) {
+        return relay * numFaults;
+    }
+
+    // Backing array, relay-major; callers must not modify it
+    public double[] getTimes() {
+        return times;
+    }
+
+    public static void main(String[] args) {
+        int numRelays = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int numFaults = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+
+        Random random = new Random(42);
+        RelayCurve[] curves = RelayCurve.values();
+        RelaySettings relays = new RelaySettings();
+        for (int r = 0; r < numRelays; r++) {
+            relays.add("R" + (r + 1), 1.0 + random.nextDouble(), 0.05 + 0.5 * random.nextDouble(),
+                    curves[random.nextInt(curves.length)]);
+        }
+        FaultCases faults = new FaultCases();
+        for (int f = 0; f < numFaults; f++) {
+            faults.add("F" + (f + 1), 1.0 + 20.0 * random.nextDouble());
+        }
+
+        long start = System.nanoTime();
+        TripTimeMatrix matrix = new TripTimeMatrix(relays, faults);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("Computed %d x %d trip-time matrix in %.1f ms%n", numRelays, numFaults, elapsed / 1e6);
+        System.out.printf("Tripping time of %s for %s: %.3f s%n", "R1", "F1", matrix.tripTime("R1", "F1"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.roland.training.relay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class CoordinationMarginAnalysisTest {
+
+    // Minimum over INVERSE/VERY_INVERSE of Tb'(I)/Tp'(I) at TMS 1, pickups 1.5 and 1.0 pu (near 6.51 pu)
+    private static final double MIN_SLOPE_RATIO = 1.1222186357944632;
+
+    private static final double LOWER = 3.0;
+    private static final double UPPER = 6.56;
+
+    @Test
+    void findsMinimumNextToMaximumInsideOneGridSegment() {
+        // Scaling the primary TMS just above the slope ratio puts a local minimum and maximum of CTI
+        // about 0.08 pu apart, both inside the last 1/32 log-segment of the range
+        double backupTms = 0.3;
+        RelaySettings relays = new RelaySettings();
+        relays.add("P", 1.0, backupTms * MIN_SLOPE_RATIO * (1 + 1e-5), RelayCurve.VERY_INVERSE);
+        relays.add("B", 1.5, backupTms, RelayCurve.INVERSE);
+        double lastNode = Math.exp(Math.log(LOWER) + 31 * (Math.log(UPPER) - Math.log(LOWER)) / 32);
+
+        double denseMin = Double.POSITIVE_INFINITY;
+        double denseCurrent = Double.NaN;
+        int samples = 100_000;
+        for (int i = 0; i <= samples; i++) {
+            double current = LOWER * Math.pow(UPPER / LOWER, (double) i / samples);
+            double cti = relays.getCurve(1).tripTime(current, 1.5, relays.getTms(1))
+                    - relays.getCurve(0).tripTime(current, 1.0, relays.getTms(0));
+            if (cti < denseMin) {
+                denseMin = cti;
+                denseCurrent = current;
+            }
+        }
+        assertTrue(denseCurrent > lastNode && denseCurrent < UPPER, "fixture: minimum not inside the last segment");
+
+        CoordinationMarginAnalysis.Margin margin = new CoordinationMarginAnalysis(relays).analyzePair(0, 1, LOWER, UPPER);
+        assertTrue(margin.getMinCti() <= denseMin + 1e-12, margin.getMinCti() + " > " + denseMin);
+        assertEquals(denseCurrent, margin.getWorstCurrentPu(), 1e-3);
+    }
+}
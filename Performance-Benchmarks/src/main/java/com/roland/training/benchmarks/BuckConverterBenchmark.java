@@ -0,0 +1,48 @@
+package com.roland.training.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.roland.training.buck.BuckConverterEngine;
+import com.roland.training.buck.BuckConverterResult;
+
+/**
+ * Euler loop of the buck converter, sized by the number of 1 µs time steps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuckConverterBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int steps;
+
+    private BuckConverterEngine engine;
+
+    @Setup
+    public void setUp() {
+        double dt = 1e-6;
+        engine = new BuckConverterEngine();
+        engine.setTimeStep(dt);
+        engine.setSimulationTime(steps * dt);
+    }
+
+    @Benchmark
+    public BuckConverterResult simulateBuckConverter() {
+        return engine.simulateBuckConverter();
+    }
+}
@@ -0,0 +1,48 @@
+package com.roland.training.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.roland.training.motor.DCMotorEngine;
+import com.roland.training.motor.DCMotorResult;
+
+/**
+ * PID step loop of the DC motor, sized by the number of 1 ms control steps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DCMotorBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int steps;
+
+    private DCMotorEngine engine;
+
+    @Setup
+    public void setUp() {
+        double dt = 0.001;
+        engine = new DCMotorEngine();
+        engine.setTimeStep(dt);
+        engine.setSimulationTime(steps * dt);
+    }
+
+    @Benchmark
+    public DCMotorResult simulateDCMotorControl() {
+        return engine.simulateDCMotorControl();
+    }
+}
@@ -0,0 +1,117 @@
+package com.roland.training.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.roland.training.buck.BuckConverterEngine;
+import com.roland.training.buck.BuckConverterResult;
+import com.roland.training.opf.OptimalPowerFlowDC;
+import com.roland.training.relay.OvercurrentRelayEngine;
+
+/**
+ * Cost of the metrics and JFR instrumentation. Each kernel runs in three forks: instrumentation off
+ * (the default), counters on ({@code -Droland.metrics=true}) and a JFR recording with the custom
+ * events enabled. The "off" scores should match the plain kernel benchmarks; the per-call OPF and
+ * relay counters are where the enabled overhead shows up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InstrumentationOverheadBenchmark {
+
+    private static final String METRICS_ON = "-Droland.metrics=true";
+    private static final String JFR_ON = "-XX:StartFlightRecording=settings=default";
+
+    private double[][] angles;
+    private BuckConverterEngine buck;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        angles = new double[1024][2];
+        for (double[] point : angles) {
+            point[0] = (random.nextDouble() * 2 - 1) * Math.PI;
+            point[1] = (random.nextDouble() * 2 - 1) * Math.PI;
+        }
+        buck = new BuckConverterEngine();
+        buck.setSimulationTime(0.001); // 1000 steps, so the per-run event is visible against the loop
+    }
+
+    private double opfObjective() {
+        next = (next + 1) & 1023;
+        return OptimalPowerFlowDC.calculateTotalCost(angles[next]);
+    }
+
+    private double relayTripTime() {
+        next = (next + 1) & 1023;
+        return OvercurrentRelayEngine.calculateTrippingTime(2.0 + angles[next][0] + Math.PI, 1.2, 0.1, "Very Inverse");
+    }
+
+    @Benchmark
+    @Fork(1)
+    public double opfObjectiveOff() {
+        return opfObjective();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = METRICS_ON)
+    public double opfObjectiveMetrics() {
+        return opfObjective();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = JFR_ON)
+    public double opfObjectiveJfr() {
+        return opfObjective();
+    }
+
+    @Benchmark
+    @Fork(1)
+    public double relayTripTimeOff() {
+        return relayTripTime();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = METRICS_ON)
+    public double relayTripTimeMetrics() {
+        return relayTripTime();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = JFR_ON)
+    public double relayTripTimeJfr() {
+        return relayTripTime();
+    }
+
+    @Benchmark
+    @Fork(1)
+    public BuckConverterResult buckSimulationOff() {
+        return buck.simulateBuckConverter();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = METRICS_ON)
+    public BuckConverterResult buckSimulationMetrics() {
+        return buck.simulateBuckConverter();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = JFR_ON)
+    public BuckConverterResult buckSimulationJfr() {
+        return buck.simulateBuckConverter();
+    }
+}
@@ -0,0 +1,69 @@
+package com.roland.training.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.roland.training.opf.OpfEvaluationCache;
+import com.roland.training.opf.OptimalPowerFlowDC;
+
+/**
+ * OPF objective evaluated over a batch of angle vectors, the way the optimizer calls it.
+ * The network itself is fixed at three buses, so the batch size is the problem size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptimalPowerFlowBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int evaluations;
+
+    private double[][] angles;
+    private OpfEvaluationCache cache;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        angles = new double[evaluations][2];
+        for (double[] point : angles) {
+            point[0] = (random.nextDouble() * 2 - 1) * Math.PI;
+            point[1] = (random.nextDouble() * 2 - 1) * Math.PI;
+        }
+        // Twice the batch: segments fill unevenly, and a cyclic scan over a full segment misses every time
+        cache = OptimalPowerFlowDC.newEvaluationCache(Math.max(2 * evaluations, 16));
+    }
+
+    @Benchmark
+    public double calculateTotalCost() {
+        double sum = 0.0;
+        for (double[] point : angles) {
+            sum += OptimalPowerFlowDC.calculateTotalCost(point);
+        }
+        return sum;
+    }
+
+    // Full evaluations (cost, dispatch and flows) through a cache large enough that warm runs only hit
+    @Benchmark
+    public double cachedEvaluation() {
+        double sum = 0.0;
+        for (double[] point : angles) {
+            sum += cache.get(point).getTotalCost();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,65 @@
+package com.roland.training.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.roland.training.relay.OvercurrentRelayEngine;
+import com.roland.training.relay.RelayCurve;
+
+/**
+ * Tripping-time formula over a batch of random (fault current, pickup, TMS, curve) cases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelayTripTimeBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int evaluations;
+
+    private double[] faultCurrentPu;
+    private double[] pickupCurrentPu;
+    private double[] tms;
+    private String[] characteristicType;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        RelayCurve[] curves = RelayCurve.values();
+        faultCurrentPu = new double[evaluations];
+        pickupCurrentPu = new double[evaluations];
+        tms = new double[evaluations];
+        characteristicType = new String[evaluations];
+        for (int i = 0; i < evaluations; i++) {
+            pickupCurrentPu[i] = 0.5 + random.nextDouble() * 1.5;
+            faultCurrentPu[i] = pickupCurrentPu[i] * (1.1 + random.nextDouble() * 19);
+            tms[i] = 0.05 + random.nextDouble() * 0.95;
+            characteristicType[i] = curves[random.nextInt(curves.length)].getLabel();
+        }
+    }
+
+    @Benchmark
+    public double calculateTrippingTime() {
+        double sum = 0.0;
+        for (int i = 0; i < evaluations; i++) {
+            sum += OvercurrentRelayEngine.calculateTrippingTime(faultCurrentPu[i], pickupCurrentPu[i], tms[i],
+                    characteristicType[i]);
+        }
+        return sum;
+    }
+}
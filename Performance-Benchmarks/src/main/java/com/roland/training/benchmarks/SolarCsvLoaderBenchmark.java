@@ -0,0 +1,96 @@
+package com.roland.training.benchmarks;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.roland.training.solar.SolarPVEngine;
+import com.roland.training.solar.SolarPVResult;
+import com.roland.training.solar.SolarPowerPrediction;
+
+/**
+ * CSV loaders of both solar tools, sized by the number of data rows in a generated temporary file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolarCsvLoaderBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private Path pvFile;
+    private Path predictionFile;
+    private SolarPVEngine engine;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        pvFile = Files.createTempFile("solar_data", ".csv");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(pvFile))) {
+            writer.println("timestamp,irradiance (W/m^2),panel_temperature (°C),voltage (V),current (A),load_power (W)");
+            LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+            for (int i = 0; i < rows; i++) {
+                double irr = 1000 * Math.abs(Math.sin(Math.PI * i / 720.0)) + random.nextDouble() * 50;
+                writer.println(start.plusMinutes(i).format(SolarPVEngine.TIMESTAMP_FORMATTER) + ","
+                        + String.format(Locale.ROOT, "%.2f", irr) + ","
+                        + String.format(Locale.ROOT, "%.2f", 25 + 0.02 * irr + random.nextDouble() * 2) + ","
+                        + String.format(Locale.ROOT, "%.2f", 12 + 0.01 * irr + random.nextDouble() * 0.1) + ","
+                        + String.format(Locale.ROOT, "%.2f", 0.1 * irr + random.nextDouble() * 0.05) + ","
+                        + String.format(Locale.ROOT, "%.2f", 50 + 0.05 * irr + random.nextDouble() * 5));
+            }
+        }
+
+        predictionFile = Files.createTempFile("solar_power_data", ".csv");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(predictionFile))) {
+            writer.println("timestamp,solar_irradiance,temperature,humidity,wind_speed,power_output");
+            for (int i = 0; i < rows; i++) {
+                double irr = 1000 * Math.abs(Math.sin(Math.PI * i / 720.0)) + random.nextDouble() * 50;
+                writer.println(i + "," + String.format(Locale.ROOT, "%.2f", irr) + ","
+                        + String.format(Locale.ROOT, "%.2f", 15 + random.nextDouble() * 20) + ","
+                        + String.format(Locale.ROOT, "%.2f", 30 + random.nextDouble() * 50) + ","
+                        + String.format(Locale.ROOT, "%.2f", random.nextDouble() * 10) + ","
+                        + String.format(Locale.ROOT, "%.2f", 0.15 * irr + random.nextDouble() * 10));
+            }
+        }
+
+        engine = new SolarPVEngine();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(pvFile);
+        Files.deleteIfExists(predictionFile);
+    }
+
+    @Benchmark
+    public SolarPVResult solarPVAnalysis() {
+        return engine.analyze(pvFile.toString());
+    }
+
+    @Benchmark
+    public int solarPowerPrediction() {
+        return SolarPowerPrediction.fromCSV(predictionFile.toString()).getRowCount();
+    }
+}
@@ -0,0 +1,114 @@
+package com.roland.training.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.roland.training.relay.RelayCurve;
+import com.roland.training.relay.TccTable;
+
+/**
+ * Tabulated tripping times against the direct IEC formula, per curve: point evaluations over random
+ * currents, and integration over a recorded RMS current that never trips, so the whole record is scanned.
+ * Setup fails if the table's observed error exceeds its guaranteed bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TccTableBenchmark {
+
+    private static final double PICKUP = 1.2;
+    private static final double TMS = 0.2;
+    private static final double DT = 1e-3; // RMS record sampled every 1 ms
+
+    @Param({"INVERSE", "VERY_INVERSE", "EXTREMELY_INVERSE"})
+    public RelayCurve curve;
+
+    @Param({"10000", "1000000"})
+    public int samples;
+
+    private double[] currents;
+    private double[] record;
+    private TccTable.Evaluator evaluator;
+
+    @Setup
+    public void setUp() {
+        evaluator = TccTable.forCurve(curve).forRelay(PICKUP, TMS);
+
+        Random random = new Random(1);
+        currents = new double[samples];
+        double maxError = 0.0;
+        for (int i = 0; i < samples; i++) {
+            currents[i] = PICKUP * (TccTable.MIN_MULTIPLE + (20.0 - TccTable.MIN_MULTIPLE) * random.nextDouble());
+            double exact = curve.tripTime(currents[i], PICKUP, TMS);
+            maxError = Math.max(maxError, Math.abs(evaluator.tripTime(currents[i]) - exact) / exact);
+        }
+        if (maxError > evaluator.getTable().getErrorBound()) {
+            throw new IllegalStateException("Table error " + maxError + " exceeds its bound "
+                    + evaluator.getTable().getErrorBound() + " for " + curve);
+        }
+
+        // Load current, then a decaying fault every two seconds, capped below the level that would trip
+        record = new double[samples];
+        for (int i = 0; i < samples; i++) {
+            double t = (i % 2000) * DT;
+            double current = t < 0.5 ? 0.8 : 2.0 + 8.0 * Math.exp(-(t - 0.5) / 0.4);
+            record[i] = Math.min(current, PICKUP * 1.5);
+        }
+    }
+
+    @Benchmark
+    public double directTripTime() {
+        double sum = 0.0;
+        for (double current : currents) {
+            sum += curve.tripTime(current, PICKUP, TMS);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double tableTripTime() {
+        double sum = 0.0;
+        for (double current : currents) {
+            sum += evaluator.tripTime(current);
+        }
+        return sum;
+    }
+
+    // Same integrating model as TccTable.Evaluator.operatingTime, with the exact formula
+    @Benchmark
+    public double directOperatingTime() {
+        double progress = 0.0;
+        for (int i = 0; i < record.length; i++) {
+            if (record[i] <= PICKUP) {
+                progress = 0.0;
+                continue;
+            }
+            double increment = DT / curve.tripTime(record[i], PICKUP, TMS);
+            if (progress + increment >= 1.0) {
+                return (i + (1.0 - progress) / increment) * DT;
+            }
+            progress += increment;
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    @Benchmark
+    public double tableOperatingTime() {
+        return evaluator.operatingTime(record, DT);
+    }
+}
@@ -0,0 +1,47 @@
+package com.roland.training.opf;
+
+/**
+ * Everything one DC network evaluation produces for a set of bus angles: total cost, generator
+ * dispatch and line flows. Instances are immutable and may be shared between threads.
+ */
+public final class OpfEvaluation {
+
+    private final double[] angles;
+    private final double totalCost;
+    private final double[] dispatch;
+    private final double[] lineFlows;
+
+    public OpfEvaluation(double[] angles, double totalCost, double[] dispatch, double[] lineFlows) {
+        this.angles = angles.clone();
+        this.totalCost = totalCost;
+        this.dispatch = dispatch.clone();
+        this.lineFlows = lineFlows.clone();
+    }
+
+    // Non-slack bus angles (rad) the evaluation was made at
+    public double[] getAngles() {
+        return angles.clone();
+    }
+
+    public double getTotalCost() {
+        return totalCost;
+    }
+
+    // Generator output per bus (MW)
+    public double[] getDispatch() {
+        return dispatch.clone();
+    }
+
+    public double getDispatch(int bus) {
+        return dispatch[bus];
+    }
+
+    // Flow per line, from bus to bus (MW)
+    public double[] getLineFlows() {
+        return lineFlows.clone();
+    }
+
+    public double getLineFlow(int line) {
+        return lineFlows[line];
+    }
+}
@@ -0,0 +1,194 @@
+package com.roland.training.opf;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe memo of network evaluations keyed by quantized angle vectors.
+ * <p>
+ * Angles are rounded to a multiple of {@code quantum} and the network is evaluated at the rounded
+ * point, so every caller in the same cell gets the same result whichever thread got there first.
+ * The key space is split into independently locked segments that share the capacity evenly, each
+ * evicting its own least recently used entry when full. Segments fill unevenly, so size the cache with
+ * headroom over the working set it is meant to hold. Two threads missing on the same key at once may
+ * both evaluate it; the first result stored wins and the other is discarded.
+ */
+public class OpfEvaluationCache {
+
+    private static final int SEGMENTS = 16; // Power of two
+
+    private final double quantum;
+    private final Function<double[], OpfEvaluation> evaluator;
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final class Segment extends LinkedHashMap<AngleKey, OpfEvaluation> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true); // Access order, for LRU
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<AngleKey, OpfEvaluation> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class AngleKey {
+        private final long[] cells;
+        private final int hash;
+
+        AngleKey(long[] cells) {
+            this.cells = cells;
+            this.hash = Arrays.hashCode(cells);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof AngleKey && Arrays.equals(cells, ((AngleKey) o).cells);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Hit, miss and eviction counts at one point in time.
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+
+        Stats(long hits, long misses, long evictions, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public double getHitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d hits, %d misses (%.1f%% hit rate), %d evictions, %d entries",
+                    hits, misses, 100 * getHitRate(), evictions, size);
+        }
+    }
+
+    /**
+     * @param capacity  maximum number of cached evaluations (at least {@value #SEGMENTS})
+     * @param quantum   angle resolution in radians; angles within the same cell share one evaluation
+     * @param evaluator network evaluation for a vector of non-slack bus angles
+     */
+    public OpfEvaluationCache(int capacity, double quantum, Function<double[], OpfEvaluation> evaluator) {
+        if (capacity < SEGMENTS) {
+            throw new IllegalArgumentException("Capacity must be at least " + SEGMENTS + ": " + capacity);
+        }
+        if (!(quantum > 0) || Double.isInfinite(quantum)) {
+            throw new IllegalArgumentException("Quantum must be positive and finite: " + quantum);
+        }
+        this.quantum = quantum;
+        this.evaluator = evaluator;
+        int perSegment = (capacity + SEGMENTS - 1) / SEGMENTS;
+        for (int s = 0; s < SEGMENTS; s++) {
+            segments[s] = new Segment(perSegment);
+        }
+    }
+
+    public double getQuantum() {
+        return quantum;
+    }
+
+    /**
+     * Returns the cached evaluation for the cell containing {@code angles}, evaluating it on a miss.
+     */
+    public OpfEvaluation get(double[] angles) {
+        long[] cells = new long[angles.length];
+        for (int i = 0; i < angles.length; i++) {
+            cells[i] = Math.round(angles[i] / quantum);
+        }
+        AngleKey key = new AngleKey(cells);
+        Segment segment = segmentFor(key);
+
+        OpfEvaluation cached;
+        synchronized (segment) {
+            cached = segment.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        double[] snapped = new double[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            snapped[i] = cells[i] * quantum;
+        }
+        OpfEvaluation computed = evaluator.apply(snapped);
+        synchronized (segment) {
+            OpfEvaluation raced = segment.putIfAbsent(key, computed);
+            return raced != null ? raced : computed;
+        }
+    }
+
+    private Segment segmentFor(AngleKey key) {
+        int h = key.hash;
+        return segments[(h ^ (h >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    public Stats getStats() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    // Drops all entries; statistics are kept
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.roland.training.opf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.exception.ConvergenceException;
+import org.apache.commons.math3.exception.TooManyEvaluationsException;
+import org.apache.commons.math3.optim.InitialGuess;
+import org.apache.commons.math3.optim.MaxEval;
+import org.apache.commons.math3.optim.OptimizationData;
+import org.apache.commons.math3.optim.PointValuePair;
+import org.apache.commons.math3.optim.SimpleBounds;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+import org.apache.commons.math3.optim.nonlinear.scalar.ObjectiveFunction;
+import org.apache.commons.math3.optim.nonlinear.scalar.noderiv.BOBYQAOptimizer;
+
+import com.roland.training.metrics.Counter;
+import com.roland.training.metrics.MetricsRegistry;
+import com.roland.training.metrics.OpfSolveEvent;
+
+public class OptimalPowerFlowDC {
+
+    private static final int NUM_BUSES = 3;
+    private static final int NUM_LINES = 3;
+
+    private static final Counter OBJECTIVE_EVALUATIONS = MetricsRegistry.global().counter(
+            "roland_opf_objective_evaluations_total", "OPF objective (total cost) evaluations");
+    private static final Counter SOLVES = MetricsRegistry.global().counter(
+            "roland_opf_solves_total", "OPF optimizer runs");
+
+    // Bus data: [Pd (demand), Pg_min, Pg_max]
+    private static final double[][] busData = {
+            {100.0, 0.0, 300.0}, // Bus 1 (Slack)
+            {50.0, 0.0, 200.0},  // Bus 2
+            {75.0, 0.0, 250.0}   // Bus 3
+    };
+
+    // Line data: [from_bus, to_bus, x (reactance), P_max_flow]
+    private static final double[][] lineData = {
+            {0.0, 1.0, 0.1, 150.0},
+            {0.0, 2.0, 0.2, 100.0},
+            {1.0, 2.0, 0.15, 120.0}
+    };
+
+    // Generation cost coefficients: [a (constant), b (linear)] - for Pg
+    private static final double[][] genCostCoeff = {
+            {0.0, 2.0},   // Bus 1
+            {0.0, 3.0},   // Bus 2
+            {0.0, 2.5}    // Bus 3
+    };
+
+    private static final int MAX_EVALUATIONS = 10000;
+
+    /**
+     * Final trust-region radius of the optimizer, in radians: a solve stops once its steps in the angles
+     * have shrunk to about this size.
+     */
+    public static final double STOPPING_RADIUS = 1e-6;
+
+    /**
+     * Default cache quantum, a tenth of {@link #STOPPING_RADIUS}.
+     */
+    public static final double DEFAULT_CACHE_QUANTUM = STOPPING_RADIUS / 10;
+
+    /**
+     * A cache of network evaluations for {@link #solve(double[], OpfEvaluationCache)}, with the
+     * {@link #DEFAULT_CACHE_QUANTUM default quantum}.
+     */
+    public static OpfEvaluationCache newEvaluationCache(int capacity) {
+        return newEvaluationCache(capacity, DEFAULT_CACHE_QUANTUM);
+    }
+
+    /**
+     * A cache of network evaluations for {@link #solve(double[], OpfEvaluationCache)}. The network data is
+     * fixed, so one cache can be shared by solves that revisit the same angles, e.g. concurrent what-if runs.
+     * A hit costs more than evaluating this small network directly, so it only pays off when solves overlap.
+     * <p>
+     * The optimizer sees the cost as constant within each cell of {@code quantum} radians. Well below
+     * {@link #STOPPING_RADIUS}, that is invisible to it: solves take the same steps as without a cache, but
+     * only points within a quantum of an earlier one hit. Near or above the stopping radius, solves that pass
+     * close to each other share evaluations, but the final steps see a flat cost, so the optimum is only
+     * resolved to about one quantum and a solve may stop early.
+     */
+    public static OpfEvaluationCache newEvaluationCache(int capacity, double quantum) {
+        return new OpfEvaluationCache(capacity, quantum, OptimalPowerFlowDC::evaluate);
+    }
+
+    /**
+     * Minimizes generation cost from the given starting angles (non-slack buses) and returns the cost,
+     * dispatch and flows at the optimum, without caching.
+     */
+    public static OpfEvaluation solve(double[] initialGuess) {
+        return solve(initialGuess, null);
+    }
+
+    /**
+     * Like {@link #solve(double[])}, but objective calls go through {@code cache} when it is not null,
+     * so the objective is evaluated at the cache's quantized angles. Safe to call from several threads
+     * at once. Objective calls are counted the same way with or without a cache.
+     */
+    public static OpfEvaluation solve(double[] initialGuess, OpfEvaluationCache cache) {
+        int nVar = NUM_BUSES - 1; // Number of voltage angles to optimize (excluding slack)
+        double[] lowerBounds = new double[nVar];
+        double[] upperBounds = new double[nVar];
+
+        // Set bounds for voltage angles (excluding slack bus 0)
+        for (int i = 0; i < nVar; i++) {
+            lowerBounds[i] = -Math.PI; // Lower bound: -pi radians
+            upperBounds[i] = Math.PI;  // Upper bound: pi radians
+        }
+
+        BOBYQAOptimizer optimizer = new BOBYQAOptimizer(
+                2 * nVar + 1, // Number of interpolation points
+                MAX_EVALUATIONS, // Max number of function evaluations
+                STOPPING_RADIUS  // Convergence tolerance
+        );
+
+        ObjectiveFunction objectiveFunction = new ObjectiveFunction(cache == null
+                ? OptimalPowerFlowDC::calculateTotalCost
+                : angles -> {
+                    countObjectiveEvaluation();
+                    return cache.get(angles).getTotalCost();
+                });
+        InitialGuess initialPoint = new InitialGuess(initialGuess);
+        GoalType goal = GoalType.MINIMIZE;
+        MaxEval maxEval = new MaxEval(MAX_EVALUATIONS);
+        SimpleBounds bounds = new SimpleBounds(lowerBounds, upperBounds);
+
+        OpfSolveEvent event = new OpfSolveEvent();
+        event.begin();
+        try {
+            PointValuePair optimal = optimizer.optimize(objectiveFunction, initialPoint, goal, maxEval, bounds);
+            // The cache already holds the optimizer's evaluation of the optimum
+            OpfEvaluation best = cache == null ? evaluate(optimal.getPoint()) : cache.get(optimal.getPoint());
+            recordSolve(event, optimizer.getEvaluations(), best.getTotalCost(), true);
+            return best;
+        } catch (TooManyEvaluationsException | ConvergenceException e) {
+            recordSolve(event, optimizer.getEvaluations(), Double.NaN, false);
+            throw e;
+        }
+    }
+
+    public static void main(String[] args) {
+        int nVar = NUM_BUSES - 1;
+        double[] initialGuess = new double[nVar]; // Initial guess of 0 radians for the non-slack angles
+        // Optional evaluation cache capacity and quantum; off by default
+        OpfEvaluationCache cache = null;
+        if (args.length > 0) {
+            double quantum = args.length > 1 ? Double.parseDouble(args[1]) : DEFAULT_CACHE_QUANTUM;
+            cache = newEvaluationCache(Integer.parseInt(args[0]), quantum);
+        }
+
+        try {
+            OpfEvaluation optimal = solve(initialGuess, cache);
+            double[] optimalAngles = optimal.getAngles();
+
+            System.out.println("Optimal DC Optimal Power Flow Solution:");
+            System.out.println("---------------------------------------");
+            System.out.println("Total Generation Cost: $" + String.format("%.2f", optimal.getTotalCost()));
+            System.out.println("\nOptimal Voltage Angles (radians):");
+            System.out.printf("Bus %d (Slack): %.4f%n", 1, 0.0); // Slack bus angle is 0
+            for (int i = 0; i < nVar; i++) {
+                System.out.printf("Bus %d: %.4f%n", i + 2, optimalAngles[i]);
+            }
+
+            System.out.println("\nGenerator Dispatch (MW):");
+            for (int i = 0; i < NUM_BUSES; i++) {
+                System.out.printf("Bus %d: %.2f MW%n", i + 1, optimal.getDispatch(i));
+            }
+
+            System.out.println("\nLine Flows (MW):");
+            printLineFlows(optimal);
+
+            if (cache != null) {
+                System.out.println("\nEvaluation cache: " + cache.getStats());
+            }
+
+        } catch (TooManyEvaluationsException e) {
+            System.err.println("Optimization failed: Too many evaluations.");
+        } catch (ConvergenceException e) {
+            System.err.println("Optimization failed: Convergence error.");
+        }
+    }
+
+    private static void recordSolve(OpfSolveEvent event, long evaluations, double totalCost, boolean converged) {
+        if (MetricsRegistry.ENABLED) {
+            SOLVES.inc();
+        }
+        if (event.shouldCommit()) {
+            event.objectiveEvaluations = evaluations;
+            event.totalCost = totalCost;
+            event.converged = converged;
+            event.commit();
+        }
+    }
+
+    private static void countObjectiveEvaluation() {
+        if (MetricsRegistry.ENABLED) {
+            OBJECTIVE_EVALUATIONS.inc();
+        }
+    }
+
+    public static double calculateTotalCost(double[] angles) {
+        countObjectiveEvaluation();
+        return generationCost(calculateGeneratorOutput(angles));
+    }
+
+    private static double generationCost(double[] pg) {
+        double totalCost = 0.0;
+        for (int i = 0; i < NUM_BUSES; i++) {
+            totalCost += genCostCoeff[i][0] + genCostCoeff[i][1] * pg[i];
+        }
+        return totalCost;
+    }
+
+    private static double[] calculateGeneratorOutput(double[] angles) {
+        double[] pg = new double[NUM_BUSES];
+        double[] theta = new double[NUM_BUSES];
+        theta[0] = 0.0; // Slack bus angle
+        for (int i = 0; i < angles.length; i++) {
+            theta[i + 1] = angles[i];
+        }
+
+        double[] pInjection = new double[NUM_BUSES];
+        for (int i = 0; i < NUM_BUSES; i++) {
+            for (int j = 0; j < NUM_LINES; j++) {
+                int from = (int) lineData[j][0];
+                int to = (int) lineData[j][1];
+                double x = lineData[j][2];
+                if (from == i) {
+                    pInjection[i] += (theta[i] - theta[to]) / x;
+                }
+                if (to == i) {
+                    pInjection[i] += (theta[i] - theta[from]) / x;
+                }
+            }
+            pg[i] = busData[i][0] + pInjection[i]; // Pg = Pd + Net outflow
+            // Enforce generator limits (simplified - slack handles imbalance)
+            pg[i] = Math.max(pg[i], busData[i][1]);
+            pg[i] = Math.min(pg[i], busData[i][2]);
+        }
+        return pg;
+    }
+
+    /**
+     * Cost, dispatch and line flows for one set of non-slack bus angles, from a single pass over the network.
+     * Not counted as an objective evaluation; the objective call that triggered it is.
+     */
+    public static OpfEvaluation evaluate(double[] angles) {
+        double[] pg = calculateGeneratorOutput(angles);
+        double totalCost = generationCost(pg);
+
+        double[] theta = new double[NUM_BUSES];
+        theta[0] = 0.0; // Slack bus angle
+        for (int i = 0; i < angles.length; i++) {
+            theta[i + 1] = angles[i];
+        }
+        double[] flows = new double[NUM_LINES];
+        for (int i = 0; i < NUM_LINES; i++) {
+            int from = (int) lineData[i][0];
+            int to = (int) lineData[i][1];
+            double x = lineData[i][2];
+            flows[i] = (theta[from] - theta[to]) / x;
+        }
+        return new OpfEvaluation(angles, totalCost, pg, flows);
+    }
+
+    private static void printLineFlows(OpfEvaluation evaluation) {
+        for (int i = 0; i < NUM_LINES; i++) {
+            int from = (int) lineData[i][0];
+            int to = (int) lineData[i][1];
+            System.out.printf("Line %d-%d: %.2f MW (Limit: %.2f MW)%n", from + 1, to + 1, evaluation.getLineFlow(i), lineData[i][3]);
+        }
+    }
+}
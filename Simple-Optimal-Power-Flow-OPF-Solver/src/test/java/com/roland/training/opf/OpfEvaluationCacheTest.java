@@ -0,0 +1,91 @@
+package com.roland.training.opf;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class OpfEvaluationCacheTest {
+
+    // Every point the cache asked for, in order
+    private final List<double[]> evaluated = new ArrayList<>();
+
+    private OpfEvaluationCache cache(int capacity, double quantum) {
+        return new OpfEvaluationCache(capacity, quantum, angles -> {
+            evaluated.add(angles.clone());
+            return new OpfEvaluation(angles, angles[0], new double[0], new double[0]);
+        });
+    }
+
+    /*
+     * With quantum 1 a one-angle key is its cell index c, hashed to 31 + c, so cells 16 apart land in the
+     * same segment. Capacity 32 gives each of the 16 segments two entries.
+     */
+    @Test
+    void evictsLeastRecentlyUsedEntryOfTheSegment() {
+        OpfEvaluationCache cache = cache(32, 1.0);
+        cache.get(new double[]{1});
+        cache.get(new double[]{17});
+        cache.get(new double[]{1});  // 17 is now the least recently used
+        cache.get(new double[]{33}); // Evicts 17
+
+        cache.get(new double[]{1});
+        cache.get(new double[]{33});
+        assertEquals(3, evaluated.size());
+        cache.get(new double[]{17});
+        assertEquals(4, evaluated.size());
+        assertArrayEquals(new double[]{17}, evaluated.get(3));
+        assertEquals(2, cache.getStats().getEvictions());
+    }
+
+    @Test
+    void countsHitsMissesAndEvictions() {
+        OpfEvaluationCache cache = cache(32, 1.0);
+        cache.get(new double[]{1});  // Miss
+        cache.get(new double[]{1});  // Hit
+        cache.get(new double[]{2});  // Miss, another segment
+        cache.get(new double[]{17}); // Miss
+        cache.get(new double[]{33}); // Miss, evicts 1
+        cache.get(new double[]{2});  // Hit
+
+        OpfEvaluationCache.Stats stats = cache.getStats();
+        assertEquals(2, stats.getHits());
+        assertEquals(4, stats.getMisses());
+        assertEquals(1, stats.getEvictions());
+        assertEquals(3, stats.getSize());
+        assertEquals(2.0 / 6, stats.getHitRate(), 1e-15);
+
+        cache.clear();
+        assertEquals(0, cache.getStats().getSize());
+        assertEquals(4, cache.getStats().getMisses());
+    }
+
+    @Test
+    void anglesInTheSameQuantumCellShareOneEvaluation() {
+        OpfEvaluationCache cache = cache(64, 1e-3);
+        OpfEvaluation first = cache.get(new double[]{0.0101, -0.2});
+        OpfEvaluation second = cache.get(new double[]{0.01049, -0.19951});
+
+        assertSame(first, second);
+        assertEquals(1, evaluated.size());
+        // Evaluated at the cell centre, not at either caller's angles
+        assertArrayEquals(new double[]{0.010, -0.200}, evaluated.get(0), 1e-15);
+    }
+
+    @Test
+    void anglesLessThanOneQuantumApartInNeighbouringCellsAreDistinct() {
+        OpfEvaluationCache cache = cache(64, 1e-3);
+        OpfEvaluation below = cache.get(new double[]{0.00049, 0.0});
+        OpfEvaluation above = cache.get(new double[]{0.00051, 0.0});
+
+        assertNotSame(below, above);
+        assertEquals(2, evaluated.size());
+        assertEquals(0.0, below.getTotalCost(), 0.0);
+        assertEquals(1e-3, above.getTotalCost(), 1e-15);
+    }
+}
@@ -0,0 +1,62 @@
+package com.roland.training.buck;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Builds the buck converter charts from a {@link BuckConverterResult}, for the frame or for image export.
+ */
+public final class BuckConverterCharts {
+
+    private BuckConverterCharts() {
+    }
+
+    public static List<JFreeChart> createCharts(BuckConverterResult result) {
+        double[] time = result.getTime();
+        double[] iL = result.getInductorCurrent();
+        double[] vC = result.getOutputVoltage();
+        List<JFreeChart> charts = new ArrayList<>();
+
+        // Inductor Current
+        XYSeries seriesIL = new XYSeries("Inductor Current (mA)");
+        for (int i = 0; i < time.length; i++) {
+            seriesIL.add(time[i] * 1e3, iL[i] * 1e3); // Time in ms, current in mA
+        }
+        XYSeriesCollection datasetIL = new XYSeriesCollection(seriesIL);
+        charts.add(ChartFactory.createXYLineChart(
+                "Buck Converter Simulation - Inductor Current",
+                "Time (ms)",
+                "Inductor Current (mA)",
+                datasetIL,
+                PlotOrientation.VERTICAL,
+                true,
+                true,
+                false
+        ));
+
+        // Output Voltage
+        XYSeries seriesVC = new XYSeries("Output Voltage (V)");
+        for (int i = 0; i < time.length; i++) {
+            seriesVC.add(time[i] * 1e3, vC[i]); // Time in ms, voltage in V
+        }
+        XYSeriesCollection datasetVC = new XYSeriesCollection(seriesVC);
+        charts.add(ChartFactory.createXYLineChart(
+                "Buck Converter Simulation - Output Voltage",
+                "Time (ms)",
+                "Output Voltage (V)",
+                datasetVC,
+                PlotOrientation.VERTICAL,
+                true,
+                true,
+                false
+        ));
+
+        return charts;
+    }
+}
@@ -0,0 +1,101 @@
+package com.roland.training.buck;
+
+import com.roland.training.metrics.SimulationEvent;
+import com.roland.training.metrics.SimulationMetrics;
+
+/**
+ * Discrete-time (forward Euler) simulation of the buck converter, independent of any GUI.
+ */
+public class BuckConverterEngine {
+
+    private static final SimulationMetrics METRICS = SimulationMetrics.forTool("buck");
+
+    private double vin = 12.0;   // Input Voltage (V)
+    private double l = 100e-6;   // Inductance (H)
+    private double c = 100e-6;   // Capacitance (F)
+    private double r = 10.0;     // Load Resistance (Ohms)
+    private double fSw = 100e3;  // Switching Frequency (Hz)
+    private double d = 0.4;      // Duty Cycle
+
+    private double tSim = 0.01;  // Simulation Time (s)
+    private double dt = 1e-6;    // Time Step (s)
+
+    public void setInputVoltage(double vin) {
+        this.vin = vin;
+    }
+
+    public void setInductance(double l) {
+        this.l = l;
+    }
+
+    public void setCapacitance(double c) {
+        this.c = c;
+    }
+
+    public void setLoadResistance(double r) {
+        this.r = r;
+    }
+
+    public void setSwitchingFrequency(double fSw) {
+        this.fSw = fSw;
+    }
+
+    public void setDutyCycle(double d) {
+        this.d = d;
+    }
+
+    public void setSimulationTime(double tSim) {
+        this.tSim = tSim;
+    }
+
+    public void setTimeStep(double dt) {
+        this.dt = dt;
+    }
+
+    public int getNumSteps() {
+        return (int) (tSim / dt);
+    }
+
+    public BuckConverterResult simulateBuckConverter() {
+        SimulationEvent event = new SimulationEvent();
+        event.begin();
+        int numSteps = getNumSteps();
+        double tSw = 1 / fSw; // Switching Period (s)
+        double[] time = new double[numSteps];
+        double[] iL = new double[numSteps];   // Inductor current
+        double[] vC = new double[numSteps];   // Capacitor voltage (output voltage)
+
+        for (int n = 0; n < numSteps - 1; n++) {
+            double currentTime = time[n];
+            double currentIL = iL[n];
+            double currentVC = vC[n];
+            double diL_dt;
+            double dvC_dt;
+
+            // Determine switch state based on duty cycle
+            if ((currentTime % tSw) < (d * tSw)) {
+                // Switch ON
+                diL_dt = (vin - currentVC) / l;
+            } else {
+                // Switch OFF (Diode ON)
+                diL_dt = -currentVC / l;
+            }
+
+            dvC_dt = currentIL / c - currentVC / (r * c);
+
+            // Update current and voltage using Euler's method
+            iL[n + 1] = currentIL + diL_dt * dt;
+            vC[n + 1] = currentVC + dvC_dt * dt;
+            time[n + 1] = currentTime + dt;
+        }
+
+        // Calculate average output voltage (approximation)
+        double sumVC = 0;
+        for (int i = numSteps / 2; i < numSteps; i++) {
+            sumVC += vC[i];
+        }
+        double vOutAvg = sumVC / (numSteps - numSteps / 2);
+        METRICS.record(event, numSteps, Math.max(numSteps - 1, 0));
+        return new BuckConverterResult(time, iL, vC, vOutAvg, d * vin);
+    }
+}
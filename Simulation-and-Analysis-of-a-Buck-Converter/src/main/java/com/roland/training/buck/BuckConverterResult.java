@@ -0,0 +1,43 @@
+package com.roland.training.buck;
+
+/**
+ * Waveforms and averages produced by {@link BuckConverterEngine}.
+ */
+public class BuckConverterResult {
+
+    private final double[] time;
+    private final double[] inductorCurrent;
+    private final double[] outputVoltage;
+    private final double averageOutputVoltage;
+    private final double theoreticalOutputVoltage;
+
+    public BuckConverterResult(double[] time, double[] inductorCurrent, double[] outputVoltage,
+                               double averageOutputVoltage, double theoreticalOutputVoltage) {
+        this.time = time;
+        this.inductorCurrent = inductorCurrent;
+        this.outputVoltage = outputVoltage;
+        this.averageOutputVoltage = averageOutputVoltage;
+        this.theoreticalOutputVoltage = theoreticalOutputVoltage;
+    }
+
+    public double[] getTime() {
+        return time;
+    }
+
+    public double[] getInductorCurrent() {
+        return inductorCurrent;
+    }
+
+    public double[] getOutputVoltage() {
+        return outputVoltage;
+    }
+
+    public double getAverageOutputVoltage() {
+        return averageOutputVoltage;
+    }
+
+    // Vout = D * Vin
+    public double getTheoreticalOutputVoltage() {
+        return theoreticalOutputVoltage;
+    }
+}
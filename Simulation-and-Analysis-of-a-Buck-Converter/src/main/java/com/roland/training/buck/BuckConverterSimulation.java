@@ -0,0 +1,43 @@
+package com.roland.training.buck;
+
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.JFreeChart;
+import org.jfree.ui.ApplicationFrame;
+import org.jfree.ui.RefineryUtilities;
+
+/**
+ * Swing front end: runs {@link BuckConverterEngine} and shows the charts. Use the batch runner on headless machines.
+ */
+public class BuckConverterSimulation extends ApplicationFrame {
+
+    private BuckConverterResult result;
+
+    public BuckConverterSimulation(String title) {
+        super(title);
+        simulateBuckConverter();
+        createPlots();
+        this.pack();
+        RefineryUtilities.centerFrameOnScreen(this);
+        this.setVisible(true);
+    }
+
+    private void simulateBuckConverter() {
+        result = new BuckConverterEngine().simulateBuckConverter();
+        System.out.printf("Average Output Voltage (Simulation): %.2f V%n", result.getAverageOutputVoltage());
+        System.out.printf("Theoretical Output Voltage (Vout = D * Vin): %.2f V%n", result.getTheoreticalOutputVoltage());
+    }
+
+    private void createPlots() {
+        for (JFreeChart chart : BuckConverterCharts.createCharts(result)) {
+            ChartPanel chartPanel = new ChartPanel(chart);
+            chartPanel.setPreferredSize(new java.awt.Dimension(500, 300));
+            this.add(chartPanel);
+        }
+
+        this.setLayout(new java.awt.FlowLayout());
+    }
+
+    public static void main(String[] args) {
+        BuckConverterSimulation simulation = new BuckConverterSimulation("Buck Converter Simulation");
+    }
+}
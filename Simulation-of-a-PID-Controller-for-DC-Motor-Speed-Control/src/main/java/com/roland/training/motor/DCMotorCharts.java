@@ -0,0 +1,67 @@
+package com.roland.training.motor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Builds the speed-tracking and control-signal charts from a {@link DCMotorResult}.
+ */
+public final class DCMotorCharts {
+
+    private DCMotorCharts() {
+    }
+
+    public static List<JFreeChart> createCharts(DCMotorResult result) {
+        double[] time = result.getTime();
+        double[] omega = result.getOmega();
+        double[] va = result.getArmatureVoltage();
+        double[] omegaRef = result.getReferenceSpeed();
+        List<JFreeChart> charts = new ArrayList<>();
+
+        // Speed Tracking
+        XYSeries referenceSpeedSeries = new XYSeries("Reference Speed (rad/s)");
+        XYSeries actualSpeedSeries = new XYSeries("Actual Speed (rad/s)");
+        for (int i = 0; i < time.length; i++) {
+            referenceSpeedSeries.add(time[i], omegaRef[i]);
+            actualSpeedSeries.add(time[i], omega[i]);
+        }
+        XYSeriesCollection speedDataset = new XYSeriesCollection();
+        speedDataset.addSeries(referenceSpeedSeries);
+        speedDataset.addSeries(actualSpeedSeries);
+        charts.add(ChartFactory.createXYLineChart(
+                "DC Motor Speed Control with PID (Apache Commons Math ODE Solver)",
+                "Time (s)",
+                "Angular Speed (rad/s)",
+                speedDataset,
+                PlotOrientation.VERTICAL,
+                true,
+                true,
+                false
+        ));
+
+        // Armature Voltage (Control Signal)
+        XYSeries voltageSeries = new XYSeries("Armature Voltage (V)");
+        for (int i = 0; i < time.length; i++) {
+            voltageSeries.add(time[i], va[i]);
+        }
+        XYSeriesCollection voltageDataset = new XYSeriesCollection(voltageSeries);
+        charts.add(ChartFactory.createXYLineChart(
+                "Control Signal (Armature Voltage)",
+                "Time (s)",
+                "Armature Voltage (V)",
+                voltageDataset,
+                PlotOrientation.VERTICAL,
+                true,
+                true,
+                false
+        ));
+
+        return charts;
+    }
+}
@@ -0,0 +1,183 @@
+package com.roland.training.motor;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MaxCountExceededException;
+import org.apache.commons.math3.ode.FirstOrderDifferentialEquations;
+import org.apache.commons.math3.ode.nonstiff.EulerIntegrator;
+
+import com.roland.training.metrics.SimulationEvent;
+import com.roland.training.metrics.SimulationMetrics;
+
+/**
+ * Closed-loop PID speed control of the DC motor, independent of any GUI.
+ */
+public class DCMotorEngine {
+
+    private static final SimulationMetrics METRICS = SimulationMetrics.forTool("motor");
+
+    // DC Motor Parameters
+    private double ra = 2.0;      // Armature resistance (Ohms)
+    private double la = 0.05;     // Armature inductance (H)
+    private double kb = 0.01;     // Back EMF constant (V/rad/s)
+    private double kt = kb;       // Torque constant (Nm/A)
+    private double j = 0.005;     // Moment of inertia (kg.m^2)
+    private double b = 0.001;     // Viscous friction coefficient (Nm/(rad/s))
+    private double tl = 0.1;      // Load torque (Nm)
+
+    // Simulation Parameters
+    private double tSim = 5.0;    // Simulation time (s)
+    private double dt = 0.001;    // Time step (s)
+
+    // PID Controller Parameters (to be tuned)
+    private double kp = 1.0;
+    private double ki = 0.5;
+    private double kd = 0.1;
+
+    public void setPidGains(double kp, double ki, double kd) {
+        this.kp = kp;
+        this.ki = ki;
+        this.kd = kd;
+    }
+
+    public void setKp(double kp) {
+        this.kp = kp;
+    }
+
+    public void setKi(double ki) {
+        this.ki = ki;
+    }
+
+    public void setKd(double kd) {
+        this.kd = kd;
+    }
+
+    public double getKp() {
+        return kp;
+    }
+
+    public double getKi() {
+        return ki;
+    }
+
+    public double getKd() {
+        return kd;
+    }
+
+    public void setLoadTorque(double tl) {
+        this.tl = tl;
+    }
+
+    public void setSimulationTime(double tSim) {
+        this.tSim = tSim;
+    }
+
+    public void setTimeStep(double dt) {
+        this.dt = dt;
+    }
+
+    private double speedRef(double t) {
+        if (t < 1) {
+            return 50.0;  // rad/s
+        } else if (t < 3) {
+            return 100.0; // rad/s
+        } else {
+            return 75.0;  // rad/s
+        }
+    }
+
+    public class MotorEquations implements FirstOrderDifferentialEquations {
+        private double appliedVoltage;
+
+        public void setAppliedVoltage(double voltage) {
+            this.appliedVoltage = voltage;
+        }
+
+        @Override
+        public int getDimension() {
+            return 2; // We are solving for two variables: ia (index 0) and omega (index 1)
+        }
+
+        @Override
+        public void computeDerivatives(double t, double[] y, double[] yDot) throws MaxCountExceededException, DimensionMismatchException {
+            double currentIa = y[0];
+            double currentOmega = y[1];
+            double dIa_dt = (appliedVoltage - currentIa * ra - kb * currentOmega) / la;
+            double dOmega_dt = (kt * currentIa - b * currentOmega - tl) / j;
+            yDot[0] = dIa_dt;
+            yDot[1] = dOmega_dt;
+        }
+    }
+
+    public DCMotorResult simulateDCMotorControl() {
+        SimulationEvent event = new SimulationEvent();
+        event.begin();
+        MotorEquations motorEquations = new MotorEquations();
+        EulerIntegrator integrator = new EulerIntegrator(dt);
+        double[] initialState = {0.0, 0.0}; // Initial values for [ia, omega]
+        double currentTime = 0.0;
+        double[] finalState = new double[2];
+        double integralError = 0.0;
+        double previousError = 0.0;
+
+        int capacity = (int) Math.ceil(tSim / dt) + 2;
+        double[] time = new double[capacity];
+        double[] omega = new double[capacity];        // Angular speed
+        double[] ia = new double[capacity];           // Armature current
+        double[] va = new double[capacity];           // Armature voltage (control signal)
+        double[] omegaRef = new double[capacity];     // Reference speed
+
+        time[0] = currentTime;
+        ia[0] = initialState[0];
+        omega[0] = initialState[1];
+        va[0] = 0.0; // Initial control voltage
+        omegaRef[0] = speedRef(currentTime);
+        int size = 1;
+
+        while (currentTime < tSim) {
+            if (size == time.length) {
+                int grown = size * 2;
+                time = Arrays.copyOf(time, grown);
+                omega = Arrays.copyOf(omega, grown);
+                ia = Arrays.copyOf(ia, grown);
+                va = Arrays.copyOf(va, grown);
+                omegaRef = Arrays.copyOf(omegaRef, grown);
+            }
+
+            double reference = speedRef(currentTime);
+            omegaRef[size] = reference;
+            double currentOmega = omega[size - 1];
+
+            double error = reference - currentOmega;
+
+            // PID Controller
+            double proportional = kp * error;
+            integralError += ki * error * dt;
+            double derivative = kd * (error - previousError) / dt;
+            double controlSignal = proportional + integralError + derivative;
+
+            // Limit control signal (armature voltage)
+            double vaApplied = Math.max(Math.min(controlSignal, 12.0), -12.0);
+            va[size] = vaApplied;
+
+            motorEquations.setAppliedVoltage(vaApplied);
+
+            // Integrate over one time step
+            integrator.integrate(motorEquations, currentTime, initialState, currentTime + dt, finalState);
+
+            currentTime += dt;
+            time[size] = currentTime;
+            ia[size] = finalState[0];
+            omega[size] = finalState[1];
+            size++;
+
+            initialState = finalState.clone(); // Update initial state for the next step
+            previousError = error;
+        }
+
+        METRICS.record(event, size - 1, size - 1); // one integrate() call per control step
+        return new DCMotorResult(Arrays.copyOf(time, size), Arrays.copyOf(omega, size), Arrays.copyOf(ia, size),
+                Arrays.copyOf(va, size), Arrays.copyOf(omegaRef, size));
+    }
+}
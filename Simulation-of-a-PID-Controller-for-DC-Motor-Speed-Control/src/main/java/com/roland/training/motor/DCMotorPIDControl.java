@@ -0,0 +1,41 @@
+package com.roland.training.motor;
+
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.JFreeChart;
+import org.jfree.ui.ApplicationFrame;
+import org.jfree.ui.RefineryUtilities;
+
+/**
+ * Swing front end: runs {@link DCMotorEngine} and shows the charts. Use the batch runner on headless machines.
+ */
+public class DCMotorPIDControl extends ApplicationFrame {
+
+    private DCMotorResult result;
+
+    public DCMotorPIDControl(String title) {
+        super(title);
+        simulateDCMotorControl();
+        createPlots();
+        this.pack();
+        RefineryUtilities.centerFrameOnScreen(this);
+        this.setVisible(true);
+    }
+
+    private void simulateDCMotorControl() {
+        result = new DCMotorEngine().simulateDCMotorControl();
+    }
+
+    private void createPlots() {
+        for (JFreeChart chart : DCMotorCharts.createCharts(result)) {
+            ChartPanel chartPanel = new ChartPanel(chart);
+            chartPanel.setPreferredSize(new java.awt.Dimension(500, 300));
+            this.add(chartPanel);
+        }
+
+        this.setLayout(new java.awt.FlowLayout());
+    }
+
+    public static void main(String[] args) {
+        DCMotorPIDControl simulation = new DCMotorPIDControl("DC Motor PID Control Simulation");
+    }
+}
@@ -0,0 +1,44 @@
+package com.roland.training.motor;
+
+/**
+ * Time series produced by {@link DCMotorEngine}, one entry per simulation step.
+ */
+public class DCMotorResult {
+
+    private final double[] time;
+    private final double[] omega;
+    private final double[] armatureCurrent;
+    private final double[] armatureVoltage;
+    private final double[] referenceSpeed;
+
+    public DCMotorResult(double[] time, double[] omega, double[] armatureCurrent, double[] armatureVoltage,
+                         double[] referenceSpeed) {
+        this.time = time;
+        this.omega = omega;
+        this.armatureCurrent = armatureCurrent;
+        this.armatureVoltage = armatureVoltage;
+        this.referenceSpeed = referenceSpeed;
+    }
+
+    public double[] getTime() {
+        return time;
+    }
+
+    // Angular speed (rad/s)
+    public double[] getOmega() {
+        return omega;
+    }
+
+    public double[] getArmatureCurrent() {
+        return armatureCurrent;
+    }
+
+    // Control signal (V)
+    public double[] getArmatureVoltage() {
+        return armatureVoltage;
+    }
+
+    public double[] getReferenceSpeed() {
+        return referenceSpeed;
+    }
+}
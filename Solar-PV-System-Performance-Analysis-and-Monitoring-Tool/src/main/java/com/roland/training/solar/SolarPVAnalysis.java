@@ -0,0 +1,57 @@
+package com.roland.training.solar;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.JFreeChart;
+import org.jfree.ui.ApplicationFrame;
+import org.jfree.ui.RefineryUtilities;
+
+/**
+ * Swing front end: runs {@link SolarPVEngine} and shows the charts. Use the batch runner on headless machines.
+ */
+public class SolarPVAnalysis extends ApplicationFrame {
+
+    private final SolarPVResult result;
+
+    public SolarPVAnalysis(String title, String csvFilePath) {
+        super(title);
+        result = new SolarPVEngine().analyze(csvFilePath);
+        createPlots();
+        this.pack();
+        RefineryUtilities.centerFrameOnScreen(this);
+        this.setVisible(true);
+    }
+
+    private void createPlots() {
+        for (JFreeChart chart : SolarPVCharts.createCharts(result)) {
+            ChartPanel chartPanel = new ChartPanel(chart);
+            chartPanel.setPreferredSize(new java.awt.Dimension(500, 300));
+            this.add(chartPanel);
+        }
+
+        this.setLayout(new java.awt.FlowLayout());
+    }
+
+    public static void main(String[] args) {
+        // Create a dummy CSV file for testing
+        String csvFilePath = "solar_data.csv";
+        try (java.io.PrintWriter writer = new java.io.PrintWriter(csvFilePath)) {
+            writer.println("timestamp,irradiance (W/m^2),panel_temperature (°C),voltage (V),current (A),load_power (W)");
+            for (int i = 0; i < 60; i++) {
+                LocalDateTime now = LocalDateTime.now().minusMinutes(60 - i);
+                double irr = 1000 * Math.sin(Math.PI * i / 60.0) + Math.random() * 50;
+                double temp = 25 + 0.2 * irr + Math.random() * 2;
+                double volt = 12 + 0.01 * irr + Math.random() * 0.1;
+                double curr = 0.1 * irr + Math.random() * 0.05;
+                double load = 50 + 0.05 * irr + Math.random() * 5;
+                writer.println(now.format(SolarPVEngine.TIMESTAMP_FORMATTER) + "," + String.format("%.2f", irr) + "," + String.format("%.2f", temp) + "," + String.format("%.2f", volt) + "," + String.format("%.2f", curr) + "," + String.format("%.2f", load));
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        SolarPVAnalysis analysis = new SolarPVAnalysis("Solar PV System Analysis", csvFilePath);
+    }
+}
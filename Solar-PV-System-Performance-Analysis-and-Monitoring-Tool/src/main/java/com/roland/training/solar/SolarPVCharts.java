@@ -0,0 +1,68 @@
+package com.roland.training.solar;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Builds the three PV performance charts from a {@link SolarPVResult}.
+ */
+public final class SolarPVCharts {
+
+    private SolarPVCharts() {
+    }
+
+    public static List<JFreeChart> createCharts(SolarPVResult result) {
+        LocalDateTime[] timestamps = result.getTimestamps();
+        double[] irradiance = result.getIrradiance();
+        double[] dcPower = result.getDcPower();
+        double[] loadPower = result.getLoadPower();
+        double[] efficiency = result.getEfficiency();
+        List<JFreeChart> charts = new ArrayList<>();
+
+        // Irradiance vs. DC Power
+        XYSeries series1 = new XYSeries("DC Power");
+        for (int i = 0; i < irradiance.length; i++) {
+            series1.add(irradiance[i], dcPower[i]);
+        }
+        XYSeriesCollection dataset1 = new XYSeriesCollection(series1);
+        charts.add(ChartFactory.createScatterPlot(
+                "Solar PV System Performance", "Irradiance (W/m^2)", "DC Power (W)",
+                dataset1, PlotOrientation.VERTICAL, true, true, false));
+
+        // DC Power vs. Load Power over Time
+        XYSeries series2a = new XYSeries("DC Power Generated");
+        XYSeries series2b = new XYSeries("Load Power Consumption");
+        for (int i = 0; i < timestamps.length; i++) {
+            long timeMillis = timestamps[i].toInstant(ZoneOffset.UTC).toEpochMilli();
+            series2a.add(timeMillis, dcPower[i]);
+            series2b.add(timeMillis, loadPower[i]);
+        }
+        XYSeriesCollection dataset2 = new XYSeriesCollection();
+        dataset2.addSeries(series2a);
+        dataset2.addSeries(series2b);
+        charts.add(ChartFactory.createTimeSeriesChart(
+                "Power Generation vs. Consumption", "Time", "Power (W)",
+                dataset2, true, true, false));
+
+        // Efficiency over Time
+        XYSeries series3 = new XYSeries("System Efficiency (%)");
+        for (int i = 0; i < timestamps.length; i++) {
+            long timeMillis = timestamps[i].toInstant(ZoneOffset.UTC).toEpochMilli();
+            series3.add(timeMillis, efficiency[i]);
+        }
+        XYSeriesCollection dataset3 = new XYSeriesCollection(series3);
+        charts.add(ChartFactory.createTimeSeriesChart(
+                "Simplified System Efficiency Over Time", "Time", "Efficiency (%)",
+                dataset3, true, true, false));
+
+        return charts;
+    }
+}
@@ -0,0 +1,116 @@
+package com.roland.training.solar;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+import com.roland.training.metrics.CsvIngestEvent;
+import com.roland.training.metrics.CsvIngestMetrics;
+
+/**
+ * Loads PV monitoring data from CSV and derives DC power and simplified efficiency, independent of any GUI.
+ */
+public class SolarPVEngine {
+
+    public static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final CsvIngestMetrics METRICS = CsvIngestMetrics.forLoader("solar-pv");
+
+    private double panelAreaM2 = 1.6; // Example area
+
+    private int size;
+    private LocalDateTime[] timestamps;
+    private double[] irradiance;
+    private double[] panelTemperature;
+    private double[] voltage;
+    private double[] current;
+    private double[] loadPower;
+
+    public void setPanelArea(double panelAreaM2) {
+        this.panelAreaM2 = panelAreaM2;
+    }
+
+    public SolarPVResult analyze(String csvFilePath) {
+        loadDataFromCSV(csvFilePath);
+        double[] dcPower = calculateDCPower();
+        double[] efficiency = calculateEfficiency(dcPower);
+        return new SolarPVResult(Arrays.copyOf(timestamps, size), Arrays.copyOf(irradiance, size),
+                Arrays.copyOf(panelTemperature, size), Arrays.copyOf(voltage, size), Arrays.copyOf(current, size),
+                Arrays.copyOf(loadPower, size), dcPower, efficiency);
+    }
+
+    private void loadDataFromCSV(String filePath) {
+        CsvIngestEvent event = new CsvIngestEvent();
+        event.begin();
+        long start = System.nanoTime();
+        size = 0;
+        timestamps = new LocalDateTime[64];
+        irradiance = new double[64];
+        panelTemperature = new double[64];
+        voltage = new double[64];
+        current = new double[64];
+        loadPower = new double[64];
+
+        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
+            String line;
+            boolean headerSkipped = false;
+            while ((line = br.readLine()) != null) {
+                if (!headerSkipped) {
+                    headerSkipped = true;
+                    continue;
+                }
+                String[] values = line.split(",");
+                if (values.length == 6) {
+                    if (size == timestamps.length) {
+                        grow();
+                    }
+                    timestamps[size] = LocalDateTime.parse(values[0].trim(), TIMESTAMP_FORMATTER);
+                    irradiance[size] = Double.parseDouble(values[1].trim());
+                    panelTemperature[size] = Double.parseDouble(values[2].trim());
+                    voltage[size] = Double.parseDouble(values[3].trim());
+                    current[size] = Double.parseDouble(values[4].trim());
+                    loadPower[size] = Double.parseDouble(values[5].trim());
+                    size++;
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            // Handle file not found or other IO errors
+        }
+        METRICS.record(event, filePath, size, start);
+    }
+
+    private void grow() {
+        int capacity = timestamps.length * 2;
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        irradiance = Arrays.copyOf(irradiance, capacity);
+        panelTemperature = Arrays.copyOf(panelTemperature, capacity);
+        voltage = Arrays.copyOf(voltage, capacity);
+        current = Arrays.copyOf(current, capacity);
+        loadPower = Arrays.copyOf(loadPower, capacity);
+    }
+
+    private double[] calculateDCPower() {
+        double[] dcPower = new double[size];
+        for (int i = 0; i < size; i++) {
+            dcPower[i] = voltage[i] * current[i];
+        }
+        return dcPower;
+    }
+
+    private double[] calculateEfficiency(double[] dcPower) {
+        double[] efficiency = new double[size];
+        for (int i = 0; i < size; i++) {
+            double powerPerArea = dcPower[i] / panelAreaM2;
+            if (irradiance[i] > 0) {
+                efficiency[i] = (powerPerArea / irradiance[i]) * 100;
+            } else {
+                efficiency[i] = 0.0;
+            }
+        }
+        return efficiency;
+    }
+}
@@ -0,0 +1,68 @@
+package com.roland.training.solar;
+
+import java.time.LocalDateTime;
+
+/**
+ * Measured and derived PV series produced by {@link SolarPVEngine}, one entry per CSV row.
+ */
+public class SolarPVResult {
+
+    private final LocalDateTime[] timestamps;
+    private final double[] irradiance;
+    private final double[] panelTemperature;
+    private final double[] voltage;
+    private final double[] current;
+    private final double[] loadPower;
+    private final double[] dcPower;
+    private final double[] efficiency;
+
+    public SolarPVResult(LocalDateTime[] timestamps, double[] irradiance, double[] panelTemperature, double[] voltage,
+                         double[] current, double[] loadPower, double[] dcPower, double[] efficiency) {
+        this.timestamps = timestamps;
+        this.irradiance = irradiance;
+        this.panelTemperature = panelTemperature;
+        this.voltage = voltage;
+        this.current = current;
+        this.loadPower = loadPower;
+        this.dcPower = dcPower;
+        this.efficiency = efficiency;
+    }
+
+    public int size() {
+        return timestamps.length;
+    }
+
+    public LocalDateTime[] getTimestamps() {
+        return timestamps;
+    }
+
+    // W/m^2
+    public double[] getIrradiance() {
+        return irradiance;
+    }
+
+    public double[] getPanelTemperature() {
+        return panelTemperature;
+    }
+
+    public double[] getVoltage() {
+        return voltage;
+    }
+
+    public double[] getCurrent() {
+        return current;
+    }
+
+    public double[] getLoadPower() {
+        return loadPower;
+    }
+
+    public double[] getDcPower() {
+        return dcPower;
+    }
+
+    // Simplified system efficiency (%)
+    public double[] getEfficiency() {
+        return efficiency;
+    }
+}
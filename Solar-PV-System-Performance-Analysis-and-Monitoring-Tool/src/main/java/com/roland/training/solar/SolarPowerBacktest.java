@@ -0,0 +1,502 @@
+package com.roland.training.solar;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.commons.math3.linear.RealVector;
+import org.apache.commons.math3.linear.SingularValueDecomposition;
+
+import com.roland.training.metrics.CsvIngestEvent;
+import com.roland.training.metrics.CsvIngestMetrics;
+
+/**
+ * Out-of-sample accuracy of the linear power models used by {@link SolarPowerPrediction}.
+ *
+ * The history is sorted by timestamp and split either with a rolling origin (walk-forward) or
+ * into contiguous k-fold blocks. Means and centered co-moments of the features and power are
+ * precomputed per block of rows with Welford updates; a training range is assembled by merging
+ * whole blocks (Chan et al.) plus the rows at its ends, so overlapping folds do not re-scan the
+ * history and no large uncentered totals are ever subtracted. Each model is solved from the
+ * standardized centered covariances. Folds are evaluated in parallel and their error sums merged
+ * into MAE, RMSE and MAPE per feature set.
+ */
+public class SolarPowerBacktest {
+
+    private static final String CSV_FILE_PATH = "solar_power_data.csv"; // Replace with your file path
+
+    private static final CsvIngestMetrics METRICS = CsvIngestMetrics.forLoader("solar-backtest");
+
+    private static final String[] FEATURE_NAMES = {"Solar Irradiance", "Temperature", "Humidity", "Wind Speed"};
+    private static final int NUM_FEATURES = FEATURE_NAMES.length;
+    private static final int NUM_VARS = NUM_FEATURES + 1; // Features followed by power output
+    private static final int POWER = NUM_FEATURES;
+    private static final int BLOCK_SIZE = 64;
+
+    private final int numRows;
+    private final double[] features;     // Row-major, NUM_FEATURES values per row
+    private final double[] powerOutput;
+    private final Moments[] blockMoments; // Block b covers rows [b * BLOCK_SIZE, (b + 1) * BLOCK_SIZE)
+
+    public static class FeatureSet {
+        final String name;
+        final int[] featureIndices;
+
+        public FeatureSet(String name, int... featureIndices) {
+            this.name = name;
+            this.featureIndices = featureIndices;
+        }
+    }
+
+    public static class Fold {
+        final int[] trainRanges; // Pairs of [start, end) row indices
+        final int testStart;
+        final int testEnd;
+
+        Fold(int[] trainRanges, int testStart, int testEnd) {
+            this.trainRanges = trainRanges;
+            this.testStart = testStart;
+            this.testEnd = testEnd;
+        }
+    }
+
+    // Mergeable error sums, so per-fold results can be pooled in any order
+    // Count, means and packed upper-triangle co-moments sum((a - mean_a) * (b - mean_b)) of a set of rows
+    private static final class Moments {
+        long count;
+        final double[] mean = new double[NUM_VARS];
+        final double[] comoment = new double[NUM_VARS * (NUM_VARS + 1) / 2];
+
+        // Welford update with one row
+        void add(double[] z) {
+            count++;
+            double[] delta = new double[NUM_VARS];
+            for (int a = 0; a < NUM_VARS; a++) {
+                delta[a] = z[a] - mean[a];
+                mean[a] += delta[a] / count;
+            }
+            int k = 0;
+            for (int a = 0; a < NUM_VARS; a++) {
+                for (int b = a; b < NUM_VARS; b++) {
+                    comoment[k++] += delta[a] * (z[b] - mean[b]);
+                }
+            }
+        }
+
+        // Pairwise merge of Chan et al.
+        void merge(Moments other) {
+            if (other.count == 0) {
+                return;
+            }
+            long total = count + other.count;
+            double weight = (double) count * other.count / total;
+            double[] delta = new double[NUM_VARS];
+            for (int a = 0; a < NUM_VARS; a++) {
+                delta[a] = other.mean[a] - mean[a];
+                mean[a] += delta[a] * other.count / total;
+            }
+            int k = 0;
+            for (int a = 0; a < NUM_VARS; a++) {
+                for (int b = a; b < NUM_VARS; b++) {
+                    comoment[k] += other.comoment[k] + delta[a] * delta[b] * weight;
+                    k++;
+                }
+            }
+            count = total;
+        }
+
+        double comoment(int a, int b) {
+            return comoment[packedIndex(a, b)];
+        }
+    }
+
+    public static class ErrorStats {
+        long folds;
+        long skippedFolds; // Folds whose training set had fewer rows than model parameters
+        long count;
+        double sumAbsError;
+        double sumSquaredError;
+        long percentCount; // Rows with non-zero actual power, used for MAPE
+        double sumAbsPercentError;
+
+        void add(double actual, double predicted) {
+            double error = actual - predicted;
+            count++;
+            sumAbsError += Math.abs(error);
+            sumSquaredError += error * error;
+            if (actual != 0.0) {
+                percentCount++;
+                sumAbsPercentError += Math.abs(error / actual);
+            }
+        }
+
+        ErrorStats merge(ErrorStats other) {
+            ErrorStats merged = new ErrorStats();
+            merged.folds = folds + other.folds;
+            merged.skippedFolds = skippedFolds + other.skippedFolds;
+            merged.count = count + other.count;
+            merged.sumAbsError = sumAbsError + other.sumAbsError;
+            merged.sumSquaredError = sumSquaredError + other.sumSquaredError;
+            merged.percentCount = percentCount + other.percentCount;
+            merged.sumAbsPercentError = sumAbsPercentError + other.sumAbsPercentError;
+            return merged;
+        }
+
+        public long getSkippedFolds() {
+            return skippedFolds;
+        }
+
+        public long getFittedFolds() {
+            return folds - skippedFolds;
+        }
+
+        public double mae() {
+            return count > 0 ? sumAbsError / count : Double.NaN;
+        }
+
+        public double rmse() {
+            return count > 0 ? Math.sqrt(sumSquaredError / count) : Double.NaN;
+        }
+
+        public double mape() {
+            return percentCount > 0 ? 100.0 * sumAbsPercentError / percentCount : Double.NaN;
+        }
+    }
+
+    public SolarPowerBacktest(double[] timestamps, double[][] featureColumns, double[] powerOutput) {
+        this.numRows = timestamps.length;
+        if (featureColumns.length != NUM_FEATURES || powerOutput.length != numRows) {
+            throw new IllegalArgumentException("Inconsistent data size for backtest input.");
+        }
+
+        // Sort rows by timestamp so that splits follow the time order of the history
+        int[] order = sortedOrder(timestamps);
+
+        this.features = new double[numRows * NUM_FEATURES];
+        this.powerOutput = new double[numRows];
+        for (int row = 0; row < numRows; row++) {
+            int src = order[row];
+            for (int f = 0; f < NUM_FEATURES; f++) {
+                this.features[row * NUM_FEATURES + f] = featureColumns[f][src];
+            }
+            this.powerOutput[row] = powerOutput[src];
+        }
+
+        this.blockMoments = buildBlockMoments();
+    }
+
+    // Row indices in ascending timestamp order; stable, and a single pass when already sorted
+    private static int[] sortedOrder(double[] keys) {
+        int n = keys.length;
+        int[] order = new int[n];
+        boolean sorted = true;
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+            if (i > 0 && Double.compare(keys[i - 1], keys[i]) > 0) {
+                sorted = false;
+            }
+        }
+        if (!sorted) {
+            mergeSort(order, new int[n], keys, 0, n);
+        }
+        return order;
+    }
+
+    private static void mergeSort(int[] order, int[] scratch, double[] keys, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(order, scratch, keys, from, mid);
+        mergeSort(order, scratch, keys, mid, to);
+        if (Double.compare(keys[order[mid - 1]], keys[order[mid]]) <= 0) {
+            return;
+        }
+        System.arraycopy(order, from, scratch, from, to - from);
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (j >= to || (i < mid && Double.compare(keys[scratch[i]], keys[scratch[j]]) <= 0)) {
+                order[k] = scratch[i++];
+            } else {
+                order[k] = scratch[j++];
+            }
+        }
+    }
+
+    public static SolarPowerBacktest fromCSV(String filePath) {
+        CsvIngestEvent event = new CsvIngestEvent();
+        event.begin();
+        long start = System.nanoTime();
+        List<double[]> rows = new ArrayList<>();
+        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
+            String line;
+            boolean firstLine = true;
+            while ((line = br.readLine()) != null) {
+                if (firstLine) {
+                    firstLine = false;
+                    continue; // Skip header row
+                }
+                String[] values = line.split(",");
+                if (values.length == 6) {
+                    try {
+                        double[] row = new double[6];
+                        for (int i = 0; i < 6; i++) {
+                            row[i] = Double.parseDouble(values[i]);
+                        }
+                        rows.add(row);
+                    } catch (NumberFormatException e) {
+                        System.err.println("Error parsing numerical value in line: " + line);
+                    }
+                } else {
+                    System.err.println("Skipping line with incorrect number of values: " + line);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        int n = rows.size();
+        METRICS.record(event, filePath, n, start);
+        double[] timestamps = new double[n];
+        double[][] featureColumns = new double[NUM_FEATURES][n];
+        double[] powerOutput = new double[n];
+        for (int i = 0; i < n; i++) {
+            double[] row = rows.get(i);
+            timestamps[i] = row[0];
+            for (int f = 0; f < NUM_FEATURES; f++) {
+                featureColumns[f][i] = row[f + 1];
+            }
+            powerOutput[i] = row[5];
+        }
+        return new SolarPowerBacktest(timestamps, featureColumns, powerOutput);
+    }
+
+    private Moments[] buildBlockMoments() {
+        int numBlocks = (numRows + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        Moments[] blocks = new Moments[numBlocks];
+        for (int block = 0; block < numBlocks; block++) {
+            blocks[block] = new Moments();
+            addRows(blocks[block], block * BLOCK_SIZE, Math.min(numRows, (block + 1) * BLOCK_SIZE));
+        }
+        return blocks;
+    }
+
+    private void addRows(Moments moments, int start, int end) {
+        double[] z = new double[NUM_VARS];
+        for (int row = start; row < end; row++) {
+            System.arraycopy(features, row * NUM_FEATURES, z, 0, NUM_FEATURES);
+            z[POWER] = powerOutput[row];
+            moments.add(z);
+        }
+    }
+
+    private static int packedIndex(int a, int b) {
+        if (a > b) {
+            int tmp = a;
+            a = b;
+            b = tmp;
+        }
+        return a * NUM_VARS - a * (a - 1) / 2 + (b - a);
+    }
+
+    // Moments of an arbitrary union of row ranges: whole blocks are merged, partial blocks added row by row
+    private Moments rangeMoments(int[] ranges) {
+        Moments moments = new Moments();
+        for (int r = 0; r < ranges.length; r += 2) {
+            int start = ranges[r];
+            int end = ranges[r + 1];
+            int firstBlock = (start + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            int lastBlock = end / BLOCK_SIZE; // Exclusive
+            if (firstBlock >= lastBlock) {
+                addRows(moments, start, end);
+                continue;
+            }
+            addRows(moments, start, firstBlock * BLOCK_SIZE);
+            for (int block = firstBlock; block < lastBlock; block++) {
+                moments.merge(blockMoments[block]);
+            }
+            addRows(moments, lastBlock * BLOCK_SIZE, end);
+        }
+        return moments;
+    }
+
+    // Least-squares coefficients [intercept, features...]; null if there is too little data to fit
+    private static double[] fit(Moments moments, FeatureSet featureSet) {
+        int[] indices = featureSet.featureIndices;
+        int p = indices.length;
+        if (moments.count < p + 1) {
+            return null;
+        }
+
+        // Centered normal equations, scaled to unit diagonal so the solve sees correlations, not units
+        double[] scale = new double[p];
+        for (int a = 0; a < p; a++) {
+            double variance = moments.comoment(indices[a], indices[a]);
+            scale[a] = variance > 0 ? Math.sqrt(variance) : 1.0;
+        }
+        RealMatrix sxx = new Array2DRowRealMatrix(p, p);
+        RealVector sxy = new ArrayRealVector(p);
+        for (int a = 0; a < p; a++) {
+            for (int b = 0; b < p; b++) {
+                sxx.setEntry(a, b, moments.comoment(indices[a], indices[b]) / (scale[a] * scale[b]));
+            }
+            sxy.setEntry(a, moments.comoment(indices[a], POWER) / scale[a]);
+        }
+
+        // SVD gives the minimum-norm solution when features are collinear within a fold
+        double[] scaled = new SingularValueDecomposition(sxx).getSolver().solve(sxy).toArray();
+        double[] beta = new double[p + 1];
+        beta[0] = moments.mean[POWER];
+        for (int a = 0; a < p; a++) {
+            beta[a + 1] = scaled[a] / scale[a];
+            beta[0] -= beta[a + 1] * moments.mean[indices[a]];
+        }
+        return beta;
+    }
+
+    private ErrorStats[] evaluateFold(Fold fold, List<FeatureSet> featureSets) {
+        Moments moments = rangeMoments(fold.trainRanges);
+        int numSets = featureSets.size();
+        double[][] coefficients = new double[numSets][];
+        ErrorStats[] errors = new ErrorStats[numSets];
+        for (int s = 0; s < numSets; s++) {
+            coefficients[s] = fit(moments, featureSets.get(s));
+            errors[s] = new ErrorStats();
+            errors[s].folds = 1;
+            if (coefficients[s] == null) {
+                errors[s].skippedFolds = 1;
+            }
+        }
+
+        for (int row = fold.testStart; row < fold.testEnd; row++) {
+            int base = row * NUM_FEATURES;
+            double actual = powerOutput[row];
+            for (int s = 0; s < numSets; s++) {
+                double[] beta = coefficients[s];
+                if (beta == null) {
+                    continue;
+                }
+                int[] indices = featureSets.get(s).featureIndices;
+                double predicted = beta[0];
+                for (int i = 0; i < indices.length; i++) {
+                    predicted += beta[i + 1] * features[base + indices[i]];
+                }
+                errors[s].add(actual, predicted);
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Evaluates every fold in parallel and returns pooled error statistics, one per feature set.
+     * Folds with too few training rows to fit a feature set are counted as skipped for that set.
+     */
+    public ErrorStats[] evaluate(List<Fold> folds, List<FeatureSet> featureSets) {
+        ErrorStats[] identity = new ErrorStats[featureSets.size()];
+        for (int s = 0; s < identity.length; s++) {
+            identity[s] = new ErrorStats();
+        }
+        return IntStream.range(0, folds.size())
+                .parallel()
+                .mapToObj(i -> evaluateFold(folds.get(i), featureSets))
+                .reduce(identity, SolarPowerBacktest::mergeAll);
+    }
+
+    private static ErrorStats[] mergeAll(ErrorStats[] a, ErrorStats[] b) {
+        ErrorStats[] merged = new ErrorStats[a.length];
+        for (int s = 0; s < a.length; s++) {
+            merged[s] = a[s].merge(b[s]);
+        }
+        return merged;
+    }
+
+    /**
+     * Walk-forward splits: train on the history before each origin, test on the next {@code horizon} rows.
+     * A {@code window} of 0 keeps the training window expanding; otherwise it slides with the origin.
+     */
+    public List<Fold> rollingOriginFolds(int initialTrainSize, int horizon, int step, int window) {
+        if (initialTrainSize < 1 || horizon < 1 || step < 1 || window < 0) {
+            throw new IllegalArgumentException("Invalid rolling-origin parameters.");
+        }
+        List<Fold> folds = new ArrayList<>();
+        for (int origin = initialTrainSize; origin + horizon <= numRows; origin += step) {
+            int trainStart = window > 0 ? Math.max(0, origin - window) : 0;
+            folds.add(new Fold(new int[]{trainStart, origin}, origin, origin + horizon));
+        }
+        return folds;
+    }
+
+    /**
+     * Blocked k-fold splits: each fold tests one contiguous block of time and trains on the rest.
+     */
+    public List<Fold> kFolds(int k) {
+        if (k < 2 || k > numRows) {
+            throw new IllegalArgumentException("Number of folds must be between 2 and the number of rows.");
+        }
+        List<Fold> folds = new ArrayList<>();
+        for (int i = 0; i < k; i++) {
+            int testStart = (int) ((long) i * numRows / k);
+            int testEnd = (int) ((long) (i + 1) * numRows / k);
+            folds.add(new Fold(new int[]{0, testStart, testEnd, numRows}, testStart, testEnd));
+        }
+        return folds;
+    }
+
+    public int getNumRows() {
+        return numRows;
+    }
+
+    public static List<FeatureSet> defaultFeatureSets() {
+        List<FeatureSet> featureSets = new ArrayList<>();
+        for (int f = 0; f < NUM_FEATURES; f++) {
+            featureSets.add(new FeatureSet(FEATURE_NAMES[f], f));
+        }
+        featureSets.add(new FeatureSet("Irradiance + Temperature", 0, 1));
+        featureSets.add(new FeatureSet("All Features", 0, 1, 2, 3));
+        return featureSets;
+    }
+
+    private static void printReport(String title, int numFolds, List<FeatureSet> featureSets, ErrorStats[] errors) {
+        System.out.println("\n" + title + " (" + numFolds + " folds)");
+        System.out.printf("  %-26s %10s %10s %10s %8s%n", "Feature Set", "MAE", "RMSE", "MAPE (%)", "Skipped");
+        for (int s = 0; s < featureSets.size(); s++) {
+            System.out.printf("  %-26s %10.3f %10.3f %10.3f %8d%n", featureSets.get(s).name,
+                    errors[s].mae(), errors[s].rmse(), errors[s].mape(), errors[s].getSkippedFolds());
+            if (errors[s].getSkippedFolds() > 0) {
+                System.out.printf("    Warning: %d of %d folds had fewer training rows than parameters and were not scored%n",
+                        errors[s].getSkippedFolds(), numFolds);
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        String csvFilePath = args.length > 0 ? args[0] : CSV_FILE_PATH;
+        SolarPowerBacktest backtest = SolarPowerBacktest.fromCSV(csvFilePath);
+        int n = backtest.getNumRows();
+        if (n < 4) {
+            System.err.println("Not enough data to backtest: " + n + " rows.");
+            return;
+        }
+
+        List<FeatureSet> featureSets = defaultFeatureSets();
+        System.out.println("--- Backtesting Solar Power Models (" + n + " rows) ---");
+
+        int horizon = Math.max(1, n / 10);
+        List<Fold> rolling = backtest.rollingOriginFolds(n / 2, horizon, horizon, 0);
+        printReport("Rolling-Origin (walk-forward)", rolling.size(), featureSets,
+                backtest.evaluate(rolling, featureSets));
+
+        List<Fold> kFold = backtest.kFolds(Math.min(5, n));
+        printReport("Blocked K-Fold", kFold.size(), featureSets,
+                backtest.evaluate(kFold, featureSets));
+
+        System.out.println("-------------------------------------------------------");
+    }
+}
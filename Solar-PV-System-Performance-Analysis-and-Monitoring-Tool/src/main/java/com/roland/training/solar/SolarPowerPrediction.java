@@ -1,3 +1,5 @@
+package com.roland.training.solar;
+
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
@@ -6,8 +8,13 @@ import java.util.List;
 
 import org.apache.commons.math3.stat.regression.SimpleRegression; // Added import
 
+import com.roland.training.metrics.CsvIngestEvent;
+import com.roland.training.metrics.CsvIngestMetrics;
+
 public class SolarPowerPrediction {
 
+    private static final CsvIngestMetrics METRICS = CsvIngestMetrics.forLoader("solar-prediction");
+
     private static final String CSV_FILE_PATH = "solar_power_data.csv"; // Replace with your file path
 
     private List<Double> timestamps = new ArrayList<>();
@@ -23,17 +30,35 @@ public class SolarPowerPrediction {
     private SimpleRegression windSpeedRegression;  // Regression for Wind Speed vs. Power
 
     public SolarPowerPrediction() {
+        this(CSV_FILE_PATH);
+        analyzeDataRelationships();
+        // You would likely have your more advanced prediction logic here
+        // based on multiple factors or a more sophisticated model
+    }
+
+    private SolarPowerPrediction(String filePath) {
         irradianceRegression = new SimpleRegression();
         temperatureRegression = new SimpleRegression();
         humidityRegression = new SimpleRegression();
         windSpeedRegression = new SimpleRegression();
-        loadDataFromCSV(CSV_FILE_PATH);
-        analyzeDataRelationships();
-        // You would likely have your more advanced prediction logic here
-        // based on multiple factors or a more sophisticated model
+        loadDataFromCSV(filePath);
+    }
+
+    /**
+     * Loads the data without running the regression analysis.
+     */
+    public static SolarPowerPrediction fromCSV(String filePath) {
+        return new SolarPowerPrediction(filePath);
+    }
+
+    public int getRowCount() {
+        return powerOutput.size();
     }
 
     private void loadDataFromCSV(String filePath) {
+        CsvIngestEvent event = new CsvIngestEvent();
+        event.begin();
+        long start = System.nanoTime();
         try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
             String line;
             boolean firstLine = true;
@@ -62,6 +87,7 @@ public class SolarPowerPrediction {
         } catch (IOException e) {
             e.printStackTrace();
         }
+        METRICS.record(event, filePath, powerOutput.size(), start);
     }
 
     private void analyzeDataRelationships() {